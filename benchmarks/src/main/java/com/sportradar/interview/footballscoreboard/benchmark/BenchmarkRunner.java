@@ -0,0 +1,53 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Runs the selected benchmarks once per thread count with the GC profiler enabled and writes
+ * every run into a single report.
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [include-regexp] [thread-counts] [report-file]},
+ * for example {@code java -jar target/benchmarks.jar ScoreBoardBenchmark 1,4,8 scoreboard.json}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, FileNotFoundException {
+        String include = args.length > 0 ? args[0] : "Benchmark";
+        int[] threadCounts = args.length > 1
+                ? Arrays.stream(args[1].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, Runtime.getRuntime().availableProcessors()};
+        String reportFile = args.length > 2 ? args[2] : "jmh-result.json";
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            results.addAll(new Runner(options).run());
+        }
+
+        ResultFormatFactory.getInstance(ResultFormatType.TEXT, System.out).writeOut(results);
+        try (PrintStream report = new PrintStream(reportFile)) {
+            ResultFormatFactory.getInstance(ResultFormatType.JSON, report).writeOut(results);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+final class Fixtures {
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    final String[] homeTeams;
+    final String[] awayTeams;
+
+    private Fixtures(String prefix, int size) {
+        this.homeTeams = new String[size];
+        this.awayTeams = new String[size];
+        for (int i = 0; i < size; i++) {
+            homeTeams[i] = prefix + "Home " + i;
+            awayTeams[i] = prefix + "Away " + i;
+        }
+    }
+
+    static Fixtures of(int size) {
+        return new Fixtures("", size);
+    }
+
+    static Fixtures of(String prefix, int size) {
+        return new Fixtures(prefix, size);
+    }
+
+    int size() {
+        return homeTeams.length;
+    }
+
+    void startAll(ScoreBoard scoreBoard) {
+        List<ScoreBoardCommand> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < size(); i++) {
+            batch.add(ScoreBoardCommand.startGame(homeTeams[i], awayTeams[i]));
+            batch.add(ScoreBoardCommand.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3));
+            if (batch.size() >= SEED_BATCH_SIZE) {
+                scoreBoard.applyBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            scoreBoard.applyBatch(batch);
+        }
+    }
+}
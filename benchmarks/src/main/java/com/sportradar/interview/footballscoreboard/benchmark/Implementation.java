@@ -0,0 +1,151 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import com.sportradar.interview.footballscoreboard.application.CachingSummaryEngine;
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.IncrementalSummaryEngine;
+import com.sportradar.interview.footballscoreboard.application.InstrumentedScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ParallelSummaryEngine;
+import com.sportradar.interview.footballscoreboard.application.PartitionedScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.SnapshotScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.SortingSummaryEngine;
+import com.sportradar.interview.footballscoreboard.domain.MatchIds;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.InMemoryMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.OffHeapMatchRepository;
+import com.sportradar.interview.footballscoreboard.metrics.ScoreBoardMetrics;
+
+
+/**
+ * Scoreboard and repository combinations compared side by side by the benchmarks.
+ */
+public enum Implementation {
+
+    BASELINE {
+        @Override
+        public MatchRepository newRepository() {
+            return new InMemoryMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InMemoryScoreBoard(matchRepository, new SortingSummaryEngine(matchRepository));
+        }
+    },
+    HASH_INDEXED {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InMemoryScoreBoard(matchRepository, new SortingSummaryEngine(matchRepository));
+        }
+    },
+    /**
+     * Matches kept as records in a direct buffer; every lookup materializes a detached Match.
+     */
+    OFF_HEAP {
+        @Override
+        public MatchRepository newRepository() {
+            return new OffHeapMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InMemoryScoreBoard(matchRepository, new SortingSummaryEngine(matchRepository));
+        }
+    },
+    CACHED_SUMMARY {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InMemoryScoreBoard(matchRepository, new CachingSummaryEngine(new SortingSummaryEngine(matchRepository)));
+        }
+    },
+    /**
+     * Sorts every summary in parallel, however small the board, to compare against the sequential sort.
+     */
+    PARALLEL_SUMMARY {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InMemoryScoreBoard(matchRepository, new ParallelSummaryEngine(matchRepository, 1));
+        }
+    },
+    INCREMENTAL_SUMMARY {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine());
+        }
+    },
+    SNAPSHOT {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new SnapshotScoreBoard(new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine()));
+        }
+    },
+    INSTRUMENTED {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            return new InstrumentedScoreBoard(new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine()), new ScoreBoardMetrics());
+        }
+    },
+    INSTRUMENTED_DISABLED {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            ScoreBoardMetrics metrics = new ScoreBoardMetrics();
+            metrics.setEnabled(false);
+            return new InstrumentedScoreBoard(new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine()), metrics);
+        }
+    },
+    /**
+     * One partition per core; the repository passed in is not used.
+     */
+    PARTITIONED {
+        @Override
+        public MatchRepository newRepository() {
+            return new HashIndexedMatchRepository();
+        }
+
+        @Override
+        public ScoreBoard newScoreBoard(MatchRepository matchRepository) {
+            int partitions = Math.min(Runtime.getRuntime().availableProcessors(), MatchIds.MAX_NAMESPACES);
+            return new PartitionedScoreBoard(partitions, HashIndexedMatchRepository::new);
+        }
+    };
+
+    public abstract MatchRepository newRepository();
+
+    public abstract ScoreBoard newScoreBoard(MatchRepository matchRepository);
+}
@@ -0,0 +1,77 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MatchRepositoryBenchmark {
+
+    @Param({"BASELINE", "HASH_INDEXED", "OFF_HEAP"})
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000"})
+    public int liveMatches;
+
+    private MatchRepository matchRepository;
+    private Fixtures fixtures;
+    private String[] upperCaseAwayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matchRepository = implementation.newRepository();
+        fixtures = Fixtures.of(liveMatches);
+        fixtures.startAll(implementation.newScoreBoard(matchRepository));
+        upperCaseAwayTeams = new String[liveMatches];
+        for (int i = 0; i < liveMatches; i++) {
+            upperCaseAwayTeams[i] = fixtures.awayTeams[i].toUpperCase(Locale.ROOT);
+        }
+    }
+
+    @Benchmark
+    public Optional<Match> findByTeams() {
+        int index = ThreadLocalRandom.current().nextInt(liveMatches);
+        return matchRepository.findByTeams(fixtures.homeTeams[index], fixtures.awayTeams[index]);
+    }
+
+    @Benchmark
+    public Optional<Match> findByTeamsReversedAndUpperCase() {
+        int index = ThreadLocalRandom.current().nextInt(liveMatches);
+        return matchRepository.findByTeams(upperCaseAwayTeams[index], fixtures.homeTeams[index]);
+    }
+
+    @Benchmark
+    public Optional<Match> findByTeamsMiss() {
+        int index = ThreadLocalRandom.current().nextInt(liveMatches);
+        return matchRepository.findByTeams(fixtures.homeTeams[index], fixtures.homeTeams[(index + 1) % liveMatches]);
+    }
+
+    @Benchmark
+    public Match saveExisting() {
+        int index = ThreadLocalRandom.current().nextInt(liveMatches);
+        Match match = matchRepository.findByTeams(fixtures.homeTeams[index], fixtures.awayTeams[index]).orElseThrow();
+        return matchRepository.save(match);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Dashboard-style traffic: every operation is either a score update or a full summary read,
+ * with the share of writes controlled by {@code writePercent}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MixedWorkloadBenchmark {
+
+    @Param({"BASELINE", "HASH_INDEXED", "OFF_HEAP", "CACHED_SUMMARY", "PARALLEL_SUMMARY", "INCREMENTAL_SUMMARY", "SNAPSHOT", "INSTRUMENTED", "INSTRUMENTED_DISABLED", "PARTITIONED"})
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000"})
+    public int liveMatches;
+
+    @Param({"1", "10", "50"})
+    public int writePercent;
+
+    private ScoreBoard scoreBoard;
+    private Fixtures fixtures;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreBoard = implementation.newScoreBoard(implementation.newRepository());
+        fixtures = Fixtures.of(liveMatches);
+        fixtures.startAll(scoreBoard);
+    }
+
+    @Benchmark
+    public Object readOrWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextInt(100) < writePercent) {
+            int index = random.nextInt(liveMatches);
+            return scoreBoard.updateScore(fixtures.homeTeams[index], fixtures.awayTeams[index], random.nextInt(6), random.nextInt(6));
+        }
+        return scoreBoard.getSummary();
+    }
+}
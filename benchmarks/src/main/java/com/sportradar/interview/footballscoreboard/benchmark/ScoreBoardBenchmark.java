@@ -0,0 +1,106 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ScoreBoardBenchmark {
+
+    @Param({"BASELINE", "HASH_INDEXED", "CACHED_SUMMARY", "PARALLEL_SUMMARY", "INCREMENTAL_SUMMARY", "SNAPSHOT", "INSTRUMENTED", "INSTRUMENTED_DISABLED"})
+    public Implementation implementation;
+
+    @Param({"10", "1000", "100000"})
+    public int liveMatches;
+
+    private ScoreBoard scoreBoard;
+    private Fixtures fixtures;
+    private long[] matchIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MatchRepository matchRepository = implementation.newRepository();
+        scoreBoard = implementation.newScoreBoard(matchRepository);
+        fixtures = Fixtures.of(liveMatches);
+        fixtures.startAll(scoreBoard);
+        matchIds = new long[liveMatches];
+        for (int i = 0; i < liveMatches; i++) {
+            matchIds[i] = matchRepository.getByTeams(fixtures.homeTeams[i], fixtures.awayTeams[i]).getId();
+        }
+    }
+
+    @Benchmark
+    public Match updateScore() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(liveMatches);
+        return scoreBoard.updateScore(fixtures.homeTeams[index], fixtures.awayTeams[index], random.nextInt(6), random.nextInt(6));
+    }
+
+    @Benchmark
+    public Match updateScoreById() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return scoreBoard.updateScore(matchIds[random.nextInt(liveMatches)], random.nextInt(6), random.nextInt(6));
+    }
+
+    @Benchmark
+    public List<Match> getSummary() {
+        return scoreBoard.getSummary();
+    }
+
+    @Benchmark
+    public List<Match> getTopTenSummary() {
+        return scoreBoard.getSummary(10);
+    }
+
+    @Benchmark
+    public Match startAndFinishGame(ThreadFixtures threadFixtures) {
+        int index = threadFixtures.next();
+        String homeTeam = threadFixtures.fixtures.homeTeams[index];
+        String awayTeam = threadFixtures.fixtures.awayTeams[index];
+        Match match = scoreBoard.startGame(homeTeam, awayTeam);
+        scoreBoard.finishGame(homeTeam, awayTeam);
+        return match;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadFixtures {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        Fixtures fixtures;
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            fixtures = Fixtures.of("Thread " + THREADS.incrementAndGet() + " ", 1_024);
+        }
+
+        int next() {
+            cursor = (cursor + 1) & 1_023;
+            return cursor;
+        }
+    }
+}
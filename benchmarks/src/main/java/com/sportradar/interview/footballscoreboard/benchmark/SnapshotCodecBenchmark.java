@@ -0,0 +1,61 @@
+package com.sportradar.interview.footballscoreboard.benchmark;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.MatchSnapshotCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SnapshotCodecBenchmark {
+
+    @Param({"1000", "100000"})
+    public int liveMatches;
+
+    private List<Match> matches;
+    private ByteBuffer target;
+    private ByteBuffer snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HashIndexedMatchRepository matchRepository = new HashIndexedMatchRepository();
+        Fixtures.of("Snapshot ", liveMatches).startAll(Implementation.HASH_INDEXED.newScoreBoard(matchRepository));
+        matches = matchRepository.findAll();
+        target = ByteBuffer.allocateDirect(MatchSnapshotCodec.encodedSize(matches));
+        snapshot = MatchSnapshotCodec.encode(matches);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        target.clear();
+        MatchSnapshotCodec.encode(matches, target);
+        return target;
+    }
+
+    @Benchmark
+    public List<Match> decode() {
+        // into an empty dictionary, as when restoring into a fresh process
+        return MatchSnapshotCodec.decode(snapshot.duplicate(), new TeamDictionary());
+    }
+}
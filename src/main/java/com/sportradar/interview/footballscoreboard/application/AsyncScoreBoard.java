@@ -0,0 +1,130 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamPair;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+
+/**
+ * Asynchronous facade running commands of a thread-safe {@link ScoreBoard} on virtual threads.
+ * Commands for the same match run one after another in the order they were submitted, commands for different
+ * matches run in parallel. Calls by match id are ordered per id; they are not ordered against calls naming the
+ * same match by its teams.
+ */
+public class AsyncScoreBoard implements AutoCloseable {
+
+    private static final CompletableFuture<Void> IDLE = CompletableFuture.completedFuture(null);
+
+    private final ScoreBoard delegate;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<Object, CompletableFuture<?>> lanes;
+    private volatile boolean closed;
+
+    public AsyncScoreBoard(ScoreBoard delegate) {
+        this(delegate, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param delegate Thread-safe board the commands are applied to.
+     * @param executor Runs the commands; shut down by {@link #close()}.
+     */
+    public AsyncScoreBoard(ScoreBoard delegate, ExecutorService executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.lanes = new ConcurrentHashMap<>();
+    }
+
+    public CompletableFuture<Match> startGame(String homeTeam, String awayTeam) {
+        return submit(homeTeam, awayTeam, () -> delegate.startGame(homeTeam, awayTeam));
+    }
+
+    public CompletableFuture<Void> finishGame(String homeTeam, String awayTeam) {
+        return submit(homeTeam, awayTeam, () -> {
+            delegate.finishGame(homeTeam, awayTeam);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> finishGame(long matchId) {
+        return submit(matchId, () -> {
+            delegate.finishGame(matchId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Match> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return submit(homeTeam, awayTeam, () -> delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    public CompletableFuture<Match> updateScore(long matchId, int homeScore, int awayScore) {
+        return submit(matchId, () -> delegate.updateScore(matchId, homeScore, awayScore));
+    }
+
+    public CompletableFuture<List<Match>> getSummary() {
+        return closed ? rejected() : CompletableFuture.supplyAsync(delegate::getSummary, executor);
+    }
+
+    /**
+     * @return Number of matches with commands queued or running.
+     */
+    public int getBusyMatches() {
+        return lanes.size();
+    }
+
+    /**
+     * Stops accepting commands, waits until every submitted command has run and shuts the executor down.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<?>[] pending;
+        while ((pending = lanes.values().toArray(CompletableFuture[]::new)).length > 0) {
+            CompletableFuture.allOf(pending).exceptionally(failure -> null).join();
+        }
+        executor.close();
+    }
+
+    private <T> CompletableFuture<T> submit(String homeTeam, String awayTeam, Supplier<T> command) {
+        TeamPair key;
+        try {
+            key = TeamPair.of(homeTeam, awayTeam);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return submit(key, command);
+    }
+
+    private <T> CompletableFuture<T> submit(Object laneKey, Supplier<T> command) {
+        if (closed) {
+            return rejected();
+        }
+        CompletableFuture<T> next = new CompletableFuture<>();
+        lanes.compute(laneKey, (key, tail) -> {
+            CompletableFuture<?> previous = tail == null ? IDLE : tail;
+            // the lane moves on once the previous command is done, whether it succeeded or not
+            previous.whenCompleteAsync((ignored, failure) -> {
+                try {
+                    next.complete(command.get());
+                } catch (RuntimeException e) {
+                    next.completeExceptionally(e);
+                }
+            }, executor).exceptionally(rejection -> {
+                next.completeExceptionally(rejection);
+                return null;
+            });
+            return next;
+        });
+        // the caller gets a dependent stage, so completing it can not release the lane early
+        return next.whenComplete((ignored, failure) -> lanes.remove(laneKey, next));
+    }
+
+    private static <T> CompletableFuture<T> rejected() {
+        return CompletableFuture.failedFuture(new IllegalStateException("Scoreboard is closed."));
+    }
+}
@@ -0,0 +1,84 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamPair;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+
+final class BatchValidator {
+
+    private BatchValidator() {
+    }
+
+    /**
+     * Replays the batch against the current repository state without modifying it.
+     *
+     * @throws IllegalArgumentException naming the first command that would be rejected.
+     */
+    static void validate(List<ScoreBoardCommand> commands, MatchRepository matchRepository) {
+        validate(commands, (homeTeam, awayTeam) -> matchRepository.findByTeams(homeTeam, awayTeam).isPresent());
+    }
+
+    /**
+     * Replays the batch against the given view of live matches without modifying anything.
+     *
+     * @throws IllegalArgumentException naming the first command that would be rejected.
+     */
+    static void validate(List<ScoreBoardCommand> commands, BiPredicate<String, String> isLive) {
+        Map<TeamPair, Boolean> inProgress = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            ScoreBoardCommand command = commands.get(i);
+            if (command == null) {
+                throw rejected(i, "Command can not be null.");
+            }
+            if (command.homeTeam() == null || command.awayTeam() == null) {
+                throw rejected(i, "Team names can not be null.");
+            }
+            TeamPair key;
+            try {
+                key = command.key();
+            } catch (IllegalArgumentException e) {
+                throw rejected(i, e.getMessage());
+            }
+            boolean live = inProgress.computeIfAbsent(key,
+                    teams -> isLive.test(command.homeTeam(), command.awayTeam()));
+            switch (command) {
+                case ScoreBoardCommand.StartGame start -> {
+                    if (live) {
+                        throw rejected(i, "A game between " + start.homeTeam() + " and " + start.awayTeam() + " is already in progress.");
+                    }
+                    if (key.isSameTeam()) {
+                        throw rejected(i, "Home team and away team can not be the same.");
+                    }
+                    inProgress.put(key, true);
+                }
+                case ScoreBoardCommand.UpdateScore update -> {
+                    if (!live) {
+                        throw notFound(i, update);
+                    }
+                    if (update.homeScore() < 0 || update.awayScore() < 0) {
+                        throw rejected(i, "Scores cannot be negative.");
+                    }
+                }
+                case ScoreBoardCommand.FinishGame finish -> {
+                    if (!live) {
+                        throw notFound(i, finish);
+                    }
+                    inProgress.put(key, false);
+                }
+            }
+        }
+    }
+
+    static IllegalArgumentException rejected(int index, String reason) {
+        return new IllegalArgumentException("Batch command " + index + " rejected: " + reason);
+    }
+
+    private static IllegalArgumentException notFound(int index, ScoreBoardCommand command) {
+        return rejected(index, "Game between " + command.homeTeam() + " and " + command.awayTeam() + " not found on the scoreboard.");
+    }
+}
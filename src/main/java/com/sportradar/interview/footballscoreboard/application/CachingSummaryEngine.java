@@ -0,0 +1,123 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Caches the full summary computed by another engine until a start, a score update or a finish invalidates it.
+ * The summary is recomputed lazily by the first reader after an invalidation while concurrent readers wait for it,
+ * so any number of reads between two goals cost a single sort.
+ */
+public class CachingSummaryEngine implements SummaryEngine {
+
+    private final SummaryEngine delegate;
+    private final AtomicLong version;
+    private final Object recomputeLock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private volatile CachedSummary cached;
+
+    public CachingSummaryEngine(SummaryEngine delegate) {
+        this.delegate = delegate;
+        this.version = new AtomicLong();
+        this.recomputeLock = new Object();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public void onStarted(Match match) {
+        delegate.onStarted(match);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void onScoreUpdated(Match match, int previousTotalScore) {
+        delegate.onScoreUpdated(match, previousTotalScore);
+        // even a change keeping the total invalidates, as repositories may hand out detached copies of matches
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void onFinished(MatchKey key) {
+        delegate.onFinished(key);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition after, int limit) {
+        CachedSummary summary = cached;
+        if (summary != null && summary.version() == version.get()) {
+            hits.increment();
+        } else {
+            summary = recompute();
+        }
+        return summary.page(after, limit);
+    }
+
+    /**
+     * @return Number of reads served from the cache.
+     */
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of reads that recomputed the summary.
+     */
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    private CachedSummary recompute() {
+        synchronized (recomputeLock) {
+            // read the version first, so a mutation racing with the computation leaves the result stale
+            long currentVersion = version.get();
+            CachedSummary summary = cached;
+            if (summary != null && summary.version() == currentVersion) {
+                hits.increment();
+                return summary;
+            }
+            misses.increment();
+            List<Match> matches = delegate.getSummary(null, Integer.MAX_VALUE).matches();
+            SummaryPosition[] positions = new SummaryPosition[matches.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = SummaryPosition.of(matches.get(i));
+            }
+            summary = new CachedSummary(currentVersion, matches, positions);
+            cached = summary;
+            return summary;
+        }
+    }
+
+    private record CachedSummary(long version, List<Match> matches, SummaryPosition[] positions) {
+
+        SummaryPage page(SummaryPosition after, int limit) {
+            int from = after == null ? 0 : firstAfter(after);
+            int to = (int) Math.min((long) from + limit, matches.size());
+            if (from >= to) {
+                return SummaryPage.EMPTY;
+            }
+            return new SummaryPage(matches.subList(from, to), positions[to - 1]);
+        }
+
+        private int firstAfter(SummaryPosition after) {
+            int low = 0;
+            int high = positions.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (positions[middle].compareTo(after) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
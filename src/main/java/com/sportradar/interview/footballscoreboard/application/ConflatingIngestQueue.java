@@ -0,0 +1,187 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.TeamPair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Multi-producer, single-consumer ingest stage for score updates. Pending updates are conflated per
+ * match, so only the latest score of a fixture is applied, and are drained into the scoreboard in
+ * batches by a single writer thread.
+ */
+public class ConflatingIngestQueue implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ScoreBoard scoreBoard;
+    private final int maxBatchSize;
+    private final Map<TeamPair, ScoreBoardCommand.UpdateScore> pending;
+    private final Queue<TeamPair> order;
+    private final LongAdder submitted;
+    private final LongAdder conflated;
+    private final LongAdder applied;
+    private final LongAdder rejected;
+    private final LongAdder failed;
+    private final LongAdder batches;
+    private final long createdNanos;
+    private volatile Thread drainer;
+    private volatile boolean running;
+
+    public ConflatingIngestQueue(ScoreBoard scoreBoard) {
+        this(scoreBoard, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public ConflatingIngestQueue(ScoreBoard scoreBoard, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive.");
+        }
+        this.scoreBoard = scoreBoard;
+        this.maxBatchSize = maxBatchSize;
+        this.pending = new ConcurrentHashMap<>();
+        this.order = new ConcurrentLinkedQueue<>();
+        this.submitted = new LongAdder();
+        this.conflated = new LongAdder();
+        this.applied = new LongAdder();
+        this.rejected = new LongAdder();
+        this.failed = new LongAdder();
+        this.batches = new LongAdder();
+        this.createdNanos = System.nanoTime();
+    }
+
+    /**
+     * Queues a score update, replacing any update for the same match that has not been applied yet.
+     *
+     * @param homeTeam  Home team name.
+     * @param awayTeam  Away team name.
+     * @param homeScore New home team score.
+     * @param awayScore New away team score.
+     */
+    public void submit(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative.");
+        }
+        ScoreBoardCommand.UpdateScore update = new ScoreBoardCommand.UpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+        TeamPair key = update.key();
+        submitted.increment();
+        if (pending.put(key, update) == null) {
+            order.offer(key);
+            Thread currentDrainer = drainer;
+            if (currentDrainer != null) {
+                LockSupport.unpark(currentDrainer);
+            }
+        } else {
+            conflated.increment();
+        }
+    }
+
+    /**
+     * Starts the writer thread that keeps draining the queue until {@link #close()}.
+     */
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("Ingest queue is already running.");
+        }
+        running = true;
+        drainer = Thread.ofPlatform().name("scoreboard-ingest").daemon().start(this::drainLoop);
+    }
+
+    /**
+     * Applies at most one batch of pending updates on the calling thread. Only one thread may drain at a time,
+     * so this is meant for callers driving the queue themselves instead of calling {@link #start()}.
+     *
+     * @return Number of updates taken from the queue.
+     */
+    public int drain() {
+        List<ScoreBoardCommand> batch = new ArrayList<>(Math.min(maxBatchSize, pending.size()));
+        TeamPair key;
+        while (batch.size() < maxBatchSize && (key = order.poll()) != null) {
+            ScoreBoardCommand.UpdateScore update = pending.remove(key);
+            if (update != null) {
+                batch.add(update);
+            }
+        }
+        if (!batch.isEmpty()) {
+            apply(batch);
+            batches.increment();
+        }
+        return batch.size();
+    }
+
+    /**
+     * @return Number of matches with an update waiting to be applied.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return Current counters.
+     */
+    public IngestStats getStats() {
+        return new IngestStats(submitted.sum(), conflated.sum(), applied.sum(), rejected.sum(), failed.sum(), batches.sum(),
+                System.nanoTime() - createdNanos);
+    }
+
+    /**
+     * Stops the writer thread and applies whatever is still pending.
+     */
+    @Override
+    public void close() {
+        Thread currentDrainer;
+        synchronized (this) {
+            running = false;
+            currentDrainer = drainer;
+            drainer = null;
+        }
+        if (currentDrainer != null) {
+            LockSupport.unpark(currentDrainer);
+            try {
+                currentDrainer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        while (drain() > 0) {
+            // flush the remainder
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void apply(List<ScoreBoardCommand> batch) {
+        try {
+            scoreBoard.applyBatch(batch);
+            applied.add(batch.size());
+        } catch (RuntimeException e) {
+            // one stale update rejects the whole batch, so fall back to applying them one by one; any other failure
+            // is counted as well, so it can not stop the drainer while producers keep submitting
+            for (ScoreBoardCommand command : batch) {
+                ScoreBoardCommand.UpdateScore update = (ScoreBoardCommand.UpdateScore) command;
+                try {
+                    scoreBoard.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+                    applied.increment();
+                } catch (IllegalArgumentException rejectedUpdate) {
+                    rejected.increment();
+                } catch (RuntimeException failedUpdate) {
+                    failed.increment();
+                }
+            }
+        }
+    }
+}
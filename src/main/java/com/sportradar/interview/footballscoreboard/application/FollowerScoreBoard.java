@@ -0,0 +1,285 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Read-only scoreboard following a {@link ReplicatingScoreBoard} through a {@link ReplicationSource}. Fetched
+ * records are applied in log order and published as an immutable {@link ScoreBoardSnapshot}, so reads never block
+ * and never see a partially applied batch. The follower starts from a snapshot and loads a new one whenever it
+ * falls further behind than the leader retains records, or than its own snapshot threshold.
+ * <p>
+ * Polling is single-threaded: either call {@link #poll(long)} from one thread or let {@link #start()} run a
+ * background thread. Matches keep the ids the leader assigned only if the transport carries them, as the
+ * in-process one does. Team names are interned into the follower's own dictionary, so team ids differ from the
+ * leader's.
+ */
+public class FollowerScoreBoard implements ScoreBoard, AutoCloseable {
+
+    private static final int DEFAULT_MAX_RECORDS = 4096;
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 100;
+    private static final long RETRY_DELAY_MILLIS = 50;
+
+    private final ReplicationSource source;
+    private final int maxRecords;
+    private final long snapshotThreshold;
+    private final TeamDictionary teams;
+    private final Map<MatchKey, Match> liveMatches;
+    private final AtomicReference<ScoreBoardSnapshot> snapshot;
+    private volatile Progress progress;
+    private boolean diverged;
+    private volatile Thread poller;
+
+    public FollowerScoreBoard(ReplicationSource source) {
+        this(source, DEFAULT_MAX_RECORDS, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param source            Transport to the leader.
+     * @param maxRecords        Maximum number of records fetched per poll.
+     * @param snapshotThreshold Lag in records above which the follower loads a snapshot instead of replaying.
+     */
+    public FollowerScoreBoard(ReplicationSource source, int maxRecords, long snapshotThreshold) {
+        if (maxRecords <= 0 || snapshotThreshold <= 0) {
+            throw new IllegalArgumentException("Max records and snapshot threshold must be positive.");
+        }
+        this.source = source;
+        this.maxRecords = maxRecords;
+        this.snapshotThreshold = snapshotThreshold;
+        this.teams = new TeamDictionary();
+        this.liveMatches = new LinkedHashMap<>();
+        this.snapshot = new AtomicReference<>(ScoreBoardSnapshot.of(0, List.of()));
+        this.progress = new Progress(ReplicationSource.NO_OFFSET, 0, System.nanoTime(), 0, 0, 0);
+    }
+
+    /**
+     * Fetches and applies one batch.
+     *
+     * @param maxWaitMillis How long to wait for the leader to write a record if the follower is up to date.
+     * @return Number of records applied, or the number of matches loaded from a snapshot.
+     */
+    public int poll(long maxWaitMillis) {
+        Progress current = progress;
+        long fetchStart = System.nanoTime();
+        long afterOffset = diverged || current.leaderOffset() - current.appliedOffset() > snapshotThreshold
+                ? ReplicationSource.NO_OFFSET
+                : current.appliedOffset();
+        ReplicationBatch batch;
+        try {
+            batch = source.fetch(afterOffset, maxRecords, maxWaitMillis);
+        } catch (RuntimeException e) {
+            progress = new Progress(current.appliedOffset(), current.leaderOffset(), current.caughtUpAtNanos(),
+                    current.recordsApplied(), current.snapshotsLoaded(), current.failedFetches() + 1);
+            throw e;
+        }
+
+        long appliedOffset;
+        int applied;
+        if (batch.isSnapshot()) {
+            liveMatches.clear();
+            for (Match match : batch.snapshot()) {
+                Match local = localCopyOf(match);
+                liveMatches.put(local.getKey(), local);
+            }
+            snapshot.set(ScoreBoardSnapshot.of(snapshot.get().version() + 1, List.copyOf(liveMatches.values())));
+            appliedOffset = batch.leaderOffset();
+            applied = batch.snapshot().size();
+            diverged = false;
+        } else {
+            apply(batch.records());
+            appliedOffset = batch.records().isEmpty() ? current.appliedOffset() : batch.records().getLast().offset();
+            applied = batch.records().size();
+        }
+
+        long leaderOffset = Math.max(batch.leaderOffset(), appliedOffset);
+        // the leader had written at most leaderOffset when the fetch started, so catching up to it means the
+        // follower is no staler than the start of the fetch
+        long caughtUpAt = appliedOffset >= leaderOffset ? fetchStart : current.caughtUpAtNanos();
+        progress = new Progress(appliedOffset, leaderOffset, caughtUpAt,
+                current.recordsApplied() + batch.records().size(),
+                current.snapshotsLoaded() + (batch.isSnapshot() ? 1 : 0), current.failedFetches());
+        return applied;
+    }
+
+    /**
+     * Polls without waiting until the follower has applied everything the leader had written.
+     */
+    public void catchUp() {
+        do {
+            poll(0);
+        } while (!getStatus().isCaughtUp());
+    }
+
+    /**
+     * Starts a background thread polling the leader until {@link #close()}. Failed fetches are counted and retried.
+     */
+    public synchronized void start() {
+        if (poller != null) {
+            throw new IllegalStateException("Follower is already polling.");
+        }
+        poller = Thread.ofPlatform().daemon().name("scoreboard-follower").start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    poll(DEFAULT_MAX_WAIT_MILLIS);
+                } catch (RuntimeException e) {
+                    try {
+                        Thread.sleep(RETRY_DELAY_MILLIS);
+                    } catch (InterruptedException interrupted) {
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * @return Replication lag and counters as of the most recent poll.
+     */
+    public ReplicationStatus getStatus() {
+        Progress current = progress;
+        return new ReplicationStatus(current.appliedOffset(), current.leaderOffset(),
+                System.nanoTime() - current.caughtUpAtNanos(), current.recordsApplied(), current.snapshotsLoaded(),
+                current.failedFetches());
+    }
+
+    /**
+     * @return The most recently published snapshot.
+     */
+    public ScoreBoardSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.interrupt();
+            try {
+                poller.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            poller = null;
+        }
+    }
+
+    @Override
+    public Match startGame(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public void finishGame(long matchId) {
+        throw readOnly();
+    }
+
+    @Override
+    public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throw readOnly();
+    }
+
+    @Override
+    public Match updateScore(long matchId, int homeScore, int awayScore) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return snapshot.get().summary();
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        return getSummary(null, limit).matches();
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("Summary limit can not be negative.");
+        }
+        return snapshot.get().summaryPage(afterCursor, pageSize);
+    }
+
+    @Override
+    public List<Match> getCurrentMatches() {
+        return snapshot.get().currentMatches();
+    }
+
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        return snapshot.get().matchesOf(teams.findId(team));
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return teams;
+    }
+
+    // records are applied to the published snapshot one by one, which shares every untouched entry
+    private void apply(List<ReplicationRecord> records) {
+        ScoreBoardSnapshot current = snapshot.get();
+        ScoreBoardSnapshot next = current;
+        for (ReplicationRecord record : records) {
+            switch (record) {
+                case ReplicationRecord.Started started -> {
+                    Match match = localCopyOf(started.match());
+                    liveMatches.put(match.getKey(), match);
+                    next = next.change(match, false);
+                }
+                case ReplicationRecord.ScoreUpdated updated -> {
+                    MatchKey key = teams.findKey(updated.homeTeam(), updated.awayTeam());
+                    Match match = key == null ? null : liveMatches.get(key);
+                    if (match == null) {
+                        // the follower missed the start, so its state can not be trusted until the next snapshot
+                        diverged = true;
+                        continue;
+                    }
+                    match.updateScore(updated.homeScore(), updated.awayScore());
+                    next = next.change(match, false);
+                }
+                case ReplicationRecord.Finished finish -> {
+                    MatchKey key = teams.findKey(finish.homeTeam(), finish.awayTeam());
+                    Match match = key == null ? null : liveMatches.remove(key);
+                    if (match != null) {
+                        next = next.change(match, true);
+                    }
+                }
+            }
+        }
+        if (next != current) {
+            snapshot.set(next.nextVersion());
+        }
+    }
+
+    private Match localCopyOf(Match match) {
+        Match local = new Match(teams, match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(),
+                match.getAwayScore(), match.getStartTime(), match.getStartSequence());
+        local.assignId(match.getId());
+        return local;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Follower scoreboards are read-only, write to the leader.");
+    }
+
+    private record Progress(long appliedOffset, long leaderOffset, long caughtUpAtNanos, long recordsApplied,
+                            long snapshotsLoaded, long failedFetches) {
+    }
+}
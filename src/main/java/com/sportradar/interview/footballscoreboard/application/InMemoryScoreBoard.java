@@ -1,64 +1,344 @@
 package com.sportradar.interview.footballscoreboard.application;
 
 import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
 import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import com.sportradar.interview.footballscoreboard.domain.TeamPair;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 public class InMemoryScoreBoard implements ScoreBoard {
 
+    private static final int LOCK_STRIPES = 64;
+
     private final MatchRepository matchRepository;
+    private final TeamDictionary teams;
+    private final SummaryEngine summaryEngine;
+    private final StripedLocks locks;
 
+    /**
+     * Uses an {@link IncrementalSummaryEngine}, which reads the top k matches in O(log n + k) and keeps score updates
+     * free of allocation.
+     *
+     * @param matchRepository Repository holding the live matches.
+     */
     public InMemoryScoreBoard(MatchRepository matchRepository) {
+        this(matchRepository, new IncrementalSummaryEngine());
+    }
+
+    public InMemoryScoreBoard(MatchRepository matchRepository, SummaryEngine summaryEngine) {
         this.matchRepository = matchRepository;
+        this.teams = matchRepository.teams();
+        this.summaryEngine = summaryEngine;
+        this.locks = new StripedLocks(LOCK_STRIPES);
+        // a repository restored from persistent storage already holds live matches
+        matchRepository.findAll().forEach(summaryEngine::onStarted);
     }
 
     @Override
     public Match startGame(String homeTeam, String awayTeam) {
-        Optional<Match> existingMatch = matchRepository.findByTeams(homeTeam, awayTeam);
-        if (existingMatch.isPresent()) {
-            throw new IllegalArgumentException("A game between " + homeTeam + " and " + awayTeam + " is already in progress.");
+        Match match = new Match(teams, homeTeam, awayTeam);
+        ReentrantLock lock = locks.lockFor(match.getKey());
+        lock.lock();
+        try {
+            if (!matchRepository.saveIfAbsent(match)) {
+                throw new IllegalArgumentException("A game between " + homeTeam + " and " + awayTeam + " is already in progress.");
+            }
+            summaryEngine.onStarted(match);
+            return match;
+        } finally {
+            lock.unlock();
         }
-
-        Match newMatch = new Match(homeTeam, awayTeam);
-        return matchRepository.save(newMatch);
     }
 
     @Override
     public void finishGame(String homeTeam, String awayTeam) {
-        boolean deleted = matchRepository.delete(homeTeam, awayTeam);
-        if (!deleted) {
-            throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
+        ReentrantLock lock = lockFor(homeTeam, awayTeam);
+        lock.lock();
+        try {
+            Match match = matchRepository.getByTeams(homeTeam, awayTeam);
+            if (match == null || !matchRepository.delete(homeTeam, awayTeam)) {
+                throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
+            }
+            summaryEngine.onFinished(match.getKey());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGame(long matchId) {
+        Match match = matchRepository.getById(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+        }
+        ReentrantLock lock = locks.lockFor(match.getKey());
+        lock.lock();
+        try {
+            if (!matchRepository.delete(matchId)) {
+                throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+            }
+            summaryEngine.onFinished(match.getKey());
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
-        Optional<Match> matchToUpdate = matchRepository.findByTeams(homeTeam, awayTeam);
-        if (matchToUpdate.isPresent()) {
-            Match match = matchToUpdate.get();
-            match.updateScore(homeScore, awayScore);
-            return matchRepository.save(match);
-        } else {
+        ReentrantLock lock = lockFor(homeTeam, awayTeam);
+        lock.lock();
+        try {
+            Match match = matchRepository.getByTeams(homeTeam, awayTeam);
+            if (match == null) {
+                throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
+            }
+            return applyScore(match, homeScore, awayScore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Match updateScore(long matchId, int homeScore, int awayScore) {
+        Match match = matchRepository.getById(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+        }
+        ReentrantLock lock = locks.lockFor(match.getKey());
+        lock.lock();
+        try {
+            // ids are never reused, and repositories handing out detached views return a fresh instance
+            Match current = matchRepository.getById(matchId);
+            if (current == null) {
+                throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+            }
+            return applyScore(current, homeScore, awayScore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // looks the teams up without registering them, so a name never started can not grow the dictionary
+    private ReentrantLock lockFor(String homeTeam, String awayTeam) {
+        int homeId = teams.findId(homeTeam);
+        int awayId = teams.findId(awayTeam);
+        if (homeId == TeamDictionary.UNKNOWN_ID || awayId == TeamDictionary.UNKNOWN_ID) {
             throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
         }
+        return locks.lockFor(homeId, awayId);
+    }
+
+    private Match applyScore(Match match, int homeScore, int awayScore) {
+        int previousTotalScore = match.getTotalScore();
+        match.updateScore(homeScore, awayScore);
+        Match savedMatch = matchRepository.save(match);
+        summaryEngine.onScoreUpdated(savedMatch, previousTotalScore);
+        return savedMatch;
+    }
+
+    @Override
+    public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        BitSet lockedStripes = lockBatch(commands);
+        try {
+            BatchValidator.validate(commands, matchRepository);
+            return stage(commands).commit();
+        } finally {
+            unlockBatch(lockedStripes);
+        }
+    }
+
+    /**
+     * Locks the stripes of every match the batch touches, in ascending stripe order. Starts register their teams;
+     * other commands naming a team never registered can only be rejected by validation and take no stripe.
+     *
+     * @return Stripes to pass to {@link #unlockBatch(BitSet)}.
+     */
+    BitSet lockBatch(List<ScoreBoardCommand> commands) {
+        List<MatchKey> keys = new ArrayList<>(commands.size());
+        for (ScoreBoardCommand command : commands) {
+            MatchKey key = lockKeyOf(command);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return locks.lockAll(keys);
+    }
+
+    private MatchKey lockKeyOf(ScoreBoardCommand command) {
+        if (command == null) {
+            return null;
+        }
+        if (!(command instanceof ScoreBoardCommand.StartGame)) {
+            return teams.findKey(command.homeTeam(), command.awayTeam());
+        }
+        try {
+            return MatchKey.of(teams.idOf(command.homeTeam()), teams.idOf(command.awayTeam()));
+        } catch (IllegalArgumentException e) {
+            // invalid names are rejected by validation
+            return null;
+        }
+    }
+
+    void unlockBatch(BitSet lockedStripes) {
+        locks.unlockAll(lockedStripes);
+    }
+
+    /**
+     * Applies the repository changes of a validated batch whose stripes the caller holds. If a command fails,
+     * the changes of the commands before it are rolled back.
+     *
+     * @return The batch to commit or roll back while the stripes are still held.
+     */
+    StagedBatch stage(List<ScoreBoardCommand> commands) {
+        StagedBatch batch = new StagedBatch(commands.size());
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                ScoreBoardCommand command = commands.get(i);
+                TeamPair key = command.key();
+                Match current = batch.after.containsKey(key)
+                        ? batch.after.get(key)
+                        : matchRepository.findByTeams(command.homeTeam(), command.awayTeam()).orElse(null);
+                if (!batch.before.containsKey(key)) {
+                    batch.before.put(key, current);
+                    batch.previousTotalScores.put(key, current == null ? 0 : current.getTotalScore());
+                }
+                Match result = apply(i, command, current, batch.undo);
+                batch.after.put(key, command instanceof ScoreBoardCommand.FinishGame ? null : result);
+                batch.results.add(result);
+            }
+        } catch (RuntimeException e) {
+            batch.rollBack();
+            throw e;
+        }
+        return batch;
+    }
+
+    private Match apply(int index, ScoreBoardCommand command, Match current, Deque<Runnable> undo) {
+        switch (command) {
+            case ScoreBoardCommand.StartGame start -> {
+                if (current != null) {
+                    throw BatchValidator.rejected(index, "A game between " + start.homeTeam() + " and " + start.awayTeam() + " is already in progress.");
+                }
+                Match newMatch = new Match(teams, start.homeTeam(), start.awayTeam());
+                if (!matchRepository.saveIfAbsent(newMatch)) {
+                    throw BatchValidator.rejected(index, "A game between " + start.homeTeam() + " and " + start.awayTeam() + " is already in progress.");
+                }
+                undo.push(() -> matchRepository.delete(newMatch.getHomeTeam(), newMatch.getAwayTeam()));
+                return newMatch;
+            }
+            case ScoreBoardCommand.UpdateScore update -> {
+                if (current == null) {
+                    throw BatchValidator.rejected(index, "Game between " + update.homeTeam() + " and " + update.awayTeam() + " not found on the scoreboard.");
+                }
+                int previousHomeScore = current.getHomeScore();
+                int previousAwayScore = current.getAwayScore();
+                current.updateScore(update.homeScore(), update.awayScore());
+                Match savedMatch = matchRepository.save(current);
+                undo.push(() -> {
+                    savedMatch.updateScore(previousHomeScore, previousAwayScore);
+                    matchRepository.save(savedMatch);
+                });
+                return savedMatch;
+            }
+            case ScoreBoardCommand.FinishGame finish -> {
+                if (current == null || !matchRepository.delete(finish.homeTeam(), finish.awayTeam())) {
+                    throw BatchValidator.rejected(index, "Game between " + finish.homeTeam() + " and " + finish.awayTeam() + " not found on the scoreboard.");
+                }
+                undo.push(() -> matchRepository.restore(current));
+                return current;
+            }
+        }
     }
 
     @Override
     public List<Match> getSummary() {
-        return matchRepository.findAll().stream()
-                .sorted(Comparator.comparingInt(Match::getTotalScore)
-                        .thenComparing(Match::getStartTime)
-                        .reversed())
-                .toList();
+        return summaryEngine.getSummary(null, Integer.MAX_VALUE).matches();
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        return getSummary(null, limit).matches();
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("Summary limit can not be negative.");
+        }
+        return summaryEngine.getSummary(afterCursor, pageSize);
     }
 
     @Override
     public List<Match> getCurrentMatches() {
         return Collections.unmodifiableList(matchRepository.findAll());
     }
+
+    @Override
+    public int getCurrentMatchCount() {
+        return matchRepository.count();
+    }
+
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        return Collections.unmodifiableList(matchRepository.findByTeam(team));
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return teams;
+    }
+
+    /**
+     * Repository changes of a batch whose summary updates are still pending.
+     */
+    final class StagedBatch {
+
+        private final List<Match> results;
+        private final Map<TeamPair, Match> before;
+        private final Map<TeamPair, Integer> previousTotalScores;
+        private final Map<TeamPair, Match> after;
+        private final Deque<Runnable> undo;
+
+        private StagedBatch(int size) {
+            this.results = new ArrayList<>(size);
+            this.before = new LinkedHashMap<>();
+            this.previousTotalScores = new LinkedHashMap<>();
+            this.after = new LinkedHashMap<>();
+            this.undo = new ArrayDeque<>();
+        }
+
+        /**
+         * @return Unmodifiable list with the resulting Match for each command, in command order.
+         */
+        List<Match> commit() {
+            after.forEach((key, match) -> {
+                Match previous = before.get(key);
+                if (previous != null && previous != match) {
+                    summaryEngine.onFinished(previous.getKey());
+                }
+                if (match != null && previous != match) {
+                    summaryEngine.onStarted(match);
+                } else if (match != null) {
+                    summaryEngine.onScoreUpdated(match, previousTotalScores.get(key));
+                }
+            });
+            return Collections.unmodifiableList(results);
+        }
+
+        void rollBack() {
+            undo.forEach(Runnable::run);
+            undo.clear();
+        }
+    }
 }
@@ -0,0 +1,233 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * Keeps the summary ordered as matches change, so a page of k matches is read in O(log n + k). Matches are the
+ * nodes of a treap, created when a match starts and moved by relinking when its total changes, so a score update
+ * costs O(log n) and allocates nothing. Moving a match removes and re-adds it, which readers must never observe
+ * half done: changes take the write lock and reads the read lock, so a page never misses a moving match or lists
+ * it twice.
+ */
+public class IncrementalSummaryEngine implements SummaryEngine {
+
+    // guarded by lock
+    private final Map<MatchKey, Node> nodes;
+    private final ReadWriteLock lock;
+    private Node root;
+
+    public IncrementalSummaryEngine() {
+        this.nodes = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    @Override
+    public void onStarted(Match match) {
+        reposition(match);
+    }
+
+    @Override
+    public void onScoreUpdated(Match match, int previousTotalScore) {
+        reposition(match);
+    }
+
+    @Override
+    public void onFinished(MatchKey key) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Match> page = new ArrayList<>(Math.min(limit, nodes.size()));
+            Node last = null;
+            for (Node node = after == null ? first() : firstAfter(after); node != null && page.size() < limit;
+                 node = successorOf(node)) {
+                page.add(node.match);
+                last = node;
+            }
+            return last == null ? SummaryPage.EMPTY : new SummaryPage(Collections.unmodifiableList(page),
+                    new SummaryPosition(last.totalScore, last.startSequence, last.key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reposition(Match match) {
+        int totalScore = match.getTotalScore();
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.get(match.getKey());
+            if (node == null) {
+                node = new Node(match, totalScore);
+                nodes.put(node.key, node);
+                link(node);
+            } else if (node.totalScore != totalScore) {
+                unlink(node);
+                node.totalScore = totalScore;
+                link(node);
+            }
+            // an unchanged total keeps the position, but the match may be a new detached copy holding the new score
+            node.match = match;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void link(Node node) {
+        node.left = null;
+        node.right = null;
+        if (root == null) {
+            node.parent = null;
+            root = node;
+            return;
+        }
+        Node parent = root;
+        while (true) {
+            if (compare(node.totalScore, node.startSequence, node.key, parent) < 0) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        node.parent = parent;
+        while (node.parent != null && node.priority > node.parent.priority) {
+            rotateUp(node);
+        }
+    }
+
+    private void unlink(Node node) {
+        // rotated down below its children until it is a leaf
+        while (node.left != null || node.right != null) {
+            boolean leftUp = node.right == null || (node.left != null && node.left.priority > node.right.priority);
+            rotateUp(leftUp ? node.left : node.right);
+        }
+        replaceChild(node.parent, node, null);
+        node.parent = null;
+    }
+
+    private void rotateUp(Node node) {
+        Node parent = node.parent;
+        Node grandParent = parent.parent;
+        if (parent.left == node) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+        parent.parent = node;
+        node.parent = grandParent;
+        replaceChild(grandParent, parent, node);
+    }
+
+    private void replaceChild(Node parent, Node child, Node replacement) {
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == child) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+    }
+
+    private Node first() {
+        Node node = root;
+        while (node != null && node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private Node firstAfter(SummaryPosition after) {
+        Node candidate = null;
+        Node node = root;
+        while (node != null) {
+            if (compare(after.totalScore(), after.startSequence(), after.key(), node) < 0) {
+                candidate = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return candidate;
+    }
+
+    private static Node successorOf(Node node) {
+        if (node.right != null) {
+            Node next = node.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            return next;
+        }
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    // same order as SummaryPosition, without creating one for the node
+    private static int compare(int totalScore, long startSequence, MatchKey key, Node node) {
+        int result = Integer.compare(node.totalScore, totalScore);
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compare(node.startSequence, startSequence);
+        return result != 0 ? result : key.compareTo(node.key);
+    }
+
+    private static final class Node {
+
+        private final MatchKey key;
+        private final long startSequence;
+        private final int priority;
+        private Match match;
+        private int totalScore;
+        private Node parent;
+        private Node left;
+        private Node right;
+
+        private Node(Match match, int totalScore) {
+            this.key = match.getKey();
+            this.startSequence = match.getStartSequence();
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.match = match;
+            this.totalScore = totalScore;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+/**
+ * Point-in-time counters of a {@link ConflatingIngestQueue}.
+ *
+ * @param submitted Updates accepted from producers.
+ * @param conflated Updates overwritten by a newer update for the same match before being applied.
+ * @param applied   Updates applied to the scoreboard.
+ * @param rejected  Updates the scoreboard rejected, e.g. because the match had already finished.
+ * @param failed    Updates the scoreboard failed to apply with an unexpected exception.
+ * @param batches   Drained batches.
+ * @param elapsedNanos Time since the queue was created.
+ */
+public record IngestStats(long submitted, long conflated, long applied, long rejected, long failed, long batches,
+                          long elapsedNanos) {
+
+    /**
+     * @return Share of submitted updates that never reached the scoreboard because a newer one replaced them.
+     */
+    public double conflationRatio() {
+        return submitted == 0 ? 0.0 : (double) conflated / submitted;
+    }
+
+    /**
+     * @return Updates applied per second since the queue was created.
+     */
+    public double appliedPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : applied * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * @return Average number of updates applied per drained batch.
+     */
+    public double averageBatchSize() {
+        return batches == 0 ? 0.0 : (double) (applied + rejected + failed) / batches;
+    }
+}
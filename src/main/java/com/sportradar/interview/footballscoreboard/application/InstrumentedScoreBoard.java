@@ -0,0 +1,162 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import com.sportradar.interview.footballscoreboard.metrics.Operation;
+import com.sportradar.interview.footballscoreboard.metrics.ScoreBoardMetrics;
+
+import java.util.List;
+
+
+/**
+ * Records the latency of every call, rejected calls, summary sizes and the number of live matches
+ * of the wrapped board into {@link ScoreBoardMetrics}.
+ */
+public class InstrumentedScoreBoard implements ScoreBoard {
+
+    private final ScoreBoard delegate;
+    private final ScoreBoardMetrics metrics;
+
+    public InstrumentedScoreBoard(ScoreBoard delegate, ScoreBoardMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        metrics.registerGauge("scoreboard.liveMatches", delegate::getCurrentMatchCount);
+    }
+
+    @Override
+    public Match startGame(String homeTeam, String awayTeam) {
+        long start = metrics.start();
+        try {
+            return delegate.startGame(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.START_GAME);
+            throw e;
+        } finally {
+            metrics.stop(Operation.START_GAME, start);
+        }
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        long start = metrics.start();
+        try {
+            delegate.finishGame(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.FINISH_GAME);
+            throw e;
+        } finally {
+            metrics.stop(Operation.FINISH_GAME, start);
+        }
+    }
+
+    @Override
+    public void finishGame(long matchId) {
+        long start = metrics.start();
+        try {
+            delegate.finishGame(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.FINISH_GAME);
+            throw e;
+        } finally {
+            metrics.stop(Operation.FINISH_GAME, start);
+        }
+    }
+
+    @Override
+    public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        long start = metrics.start();
+        try {
+            return delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.UPDATE_SCORE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public Match updateScore(long matchId, int homeScore, int awayScore) {
+        long start = metrics.start();
+        try {
+            return delegate.updateScore(matchId, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.UPDATE_SCORE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        long start = metrics.start();
+        try {
+            return delegate.applyBatch(commands);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.APPLY_BATCH);
+            throw e;
+        } finally {
+            metrics.stop(Operation.APPLY_BATCH, start);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        long start = metrics.start();
+        List<Match> summary = delegate.getSummary();
+        metrics.stop(Operation.GET_SUMMARY, start);
+        metrics.recordSummarySize(summary.size());
+        return summary;
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        long start = metrics.start();
+        List<Match> summary = delegate.getSummary(limit);
+        metrics.stop(Operation.GET_SUMMARY, start);
+        metrics.recordSummarySize(summary.size());
+        return summary;
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        long start = metrics.start();
+        try {
+            SummaryPage page = delegate.getSummary(afterCursor, pageSize);
+            metrics.recordSummarySize(page.matches().size());
+            return page;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.GET_SUMMARY);
+            throw e;
+        } finally {
+            metrics.stop(Operation.GET_SUMMARY, start);
+        }
+    }
+
+    @Override
+    public List<Match> getCurrentMatches() {
+        long start = metrics.start();
+        List<Match> matches = delegate.getCurrentMatches();
+        metrics.stop(Operation.GET_CURRENT_MATCHES, start);
+        return matches;
+    }
+
+    @Override
+    public int getCurrentMatchCount() {
+        return delegate.getCurrentMatchCount();
+    }
+
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        long start = metrics.start();
+        List<Match> matches = delegate.getMatchesOfTeam(team);
+        metrics.stop(Operation.GET_MATCHES_OF_TEAM, start);
+        return matches;
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+}
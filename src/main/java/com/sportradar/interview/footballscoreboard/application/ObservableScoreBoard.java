@@ -0,0 +1,407 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Publishes a {@link ScoreBoardEvent} for every mutation, followed by the rank changes it caused on the summary.
+ * Writes to the same match are serialized by lock stripes and run in parallel otherwise; only numbering and
+ * publishing the events of a mutation is serialized. Ranks come from the old and new position of the changed match
+ * in a persistent summary tree, in O(log n), and the matches it passed are reported as one shifted range.
+ * Events are delivered asynchronously through a bounded buffer per subscriber. When a subscriber's buffer is full
+ * its event is dropped and counted, so a slow consumer never blocks a writer, and the next event delivered to it is
+ * replaced by a {@link ScoreBoardEvent.Resync}. Writes must all go through this board.
+ */
+public class ObservableScoreBoard implements ScoreBoard, AutoCloseable {
+
+    private static final int DEFAULT_BUFFER_CAPACITY = 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ScoreBoard delegate;
+    private final TeamDictionary teams;
+    private final SubmissionPublisher<ScoreBoardEvent> publisher;
+    private final LongAdder droppedEvents;
+    private final StripedLocks locks;
+    // read-only copies of the live matches; the entry of a match only changes under its stripe
+    private final Map<MatchKey, Match> liveMatches;
+    private final Map<Long, Match> liveMatchesById;
+    // guards summary and sequence, and keeps events of concurrent mutations in sequence order
+    private final Object eventLock;
+    private PersistentSortedList<Match> summary;
+    private long sequence;
+    private volatile Published published;
+
+    public ObservableScoreBoard(ScoreBoard delegate) {
+        this(delegate, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public ObservableScoreBoard(ScoreBoard delegate, Executor executor, int bufferCapacity) {
+        this.delegate = delegate;
+        this.teams = delegate.teams();
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.droppedEvents = new LongAdder();
+        this.locks = new StripedLocks(LOCK_STRIPES);
+        this.liveMatches = new ConcurrentHashMap<>();
+        this.liveMatchesById = new ConcurrentHashMap<>();
+        this.eventLock = new Object();
+        List<Match> matches = delegate.getSummary().stream().map(Match::readOnlyCopy).toList();
+        matches.forEach(this::track);
+        this.summary = PersistentSortedList.of(SummaryPosition.MATCH_ORDER, matches);
+        this.published = new Published(0, summary);
+    }
+
+    /**
+     * @param subscriber Subscriber receiving events published after it subscribed.
+     */
+    public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+        publisher.subscribe(new ResyncingSubscriber(subscriber));
+    }
+
+    /**
+     * @return Number of events dropped because a subscriber's buffer was full.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    public void close() {
+        publisher.close();
+    }
+
+    @Override
+    public Match startGame(String homeTeam, String awayTeam) {
+        MatchKey key = startKeyOf(homeTeam, awayTeam);
+        if (key == null) {
+            // invalid names, which the delegate rejects
+            return delegate.startGame(homeTeam, awayTeam);
+        }
+        ReentrantLock lock = locks.lockFor(key);
+        lock.lock();
+        try {
+            Match match = delegate.startGame(homeTeam, awayTeam);
+            synchronized (eventLock) {
+                List<ScoreBoardEvent> events = new ArrayList<>(3);
+                started(match.readOnlyCopy(), events);
+                publish(events);
+            }
+            return match;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        MatchKey key = keyOf(homeTeam, awayTeam);
+        ReentrantLock lock = locks.lockFor(key);
+        lock.lock();
+        try {
+            delegate.finishGame(homeTeam, awayTeam);
+            publishFinished(liveMatches.get(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGame(long matchId) {
+        ReentrantLock lock = locks.lockFor(liveMatchOf(matchId).getKey());
+        lock.lock();
+        try {
+            delegate.finishGame(matchId);
+            publishFinished(liveMatchesById.get(matchId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        MatchKey key = keyOf(homeTeam, awayTeam);
+        ReentrantLock lock = locks.lockFor(key);
+        lock.lock();
+        try {
+            Match match = delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            publishUpdated(liveMatches.get(key), match.readOnlyCopy());
+            return match;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Match updateScore(long matchId, int homeScore, int awayScore) {
+        ReentrantLock lock = locks.lockFor(liveMatchOf(matchId).getKey());
+        lock.lock();
+        try {
+            Match match = delegate.updateScore(matchId, homeScore, awayScore);
+            publishUpdated(liveMatchesById.get(matchId), match.readOnlyCopy());
+            return match;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        List<MatchKey> keys = new ArrayList<>(commands.size());
+        for (ScoreBoardCommand command : commands) {
+            MatchKey key = lockKeyOf(command);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        BitSet lockedStripes = locks.lockAll(keys);
+        try {
+            List<Match> results = delegate.applyBatch(commands);
+            synchronized (eventLock) {
+                List<ScoreBoardEvent> events = new ArrayList<>(commands.size() * 3);
+                for (int i = 0; i < commands.size(); i++) {
+                    Match result = results.get(i);
+                    switch (commands.get(i)) {
+                        case ScoreBoardCommand.StartGame start -> started(stateOf(result, 0, 0), events);
+                        case ScoreBoardCommand.UpdateScore update -> updated(liveMatches.get(result.getKey()),
+                                stateOf(result, update.homeScore(), update.awayScore()), events);
+                        case ScoreBoardCommand.FinishGame finish -> finished(liveMatches.get(result.getKey()), events);
+                    }
+                }
+                publish(events);
+            }
+            return results;
+        } finally {
+            locks.unlockAll(lockedStripes);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return delegate.getSummary();
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        return delegate.getSummary(limit);
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        return delegate.getSummary(afterCursor, pageSize);
+    }
+
+    @Override
+    public List<Match> getCurrentMatches() {
+        return delegate.getCurrentMatches();
+    }
+
+    @Override
+    public int getCurrentMatchCount() {
+        return delegate.getCurrentMatchCount();
+    }
+
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        return delegate.getMatchesOfTeam(team);
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+
+    private MatchKey keyOf(String homeTeam, String awayTeam) {
+        MatchKey key = teams.findKey(homeTeam, awayTeam);
+        if (key == null) {
+            throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
+        }
+        return key;
+    }
+
+    private Match liveMatchOf(long matchId) {
+        Match match = liveMatchesById.get(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+        }
+        return match;
+    }
+
+    private MatchKey startKeyOf(String homeTeam, String awayTeam) {
+        try {
+            return MatchKey.of(teams.idOf(homeTeam), teams.idOf(awayTeam));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private MatchKey lockKeyOf(ScoreBoardCommand command) {
+        if (command == null) {
+            return null;
+        }
+        // other commands naming a team never registered can only be rejected by the delegate
+        return command instanceof ScoreBoardCommand.StartGame
+                ? startKeyOf(command.homeTeam(), command.awayTeam())
+                : teams.findKey(command.homeTeam(), command.awayTeam());
+    }
+
+    // results of a batch are live matches with the score after the whole batch
+    private static Match stateOf(Match result, int homeScore, int awayScore) {
+        Match state = result.copy();
+        state.updateScore(homeScore, awayScore);
+        return state.readOnlyCopy();
+    }
+
+    private void publishUpdated(Match previous, Match match) {
+        synchronized (eventLock) {
+            List<ScoreBoardEvent> events = new ArrayList<>(3);
+            updated(previous, match, events);
+            publish(events);
+        }
+    }
+
+    private void publishFinished(Match match) {
+        synchronized (eventLock) {
+            List<ScoreBoardEvent> events = new ArrayList<>(3);
+            finished(match, events);
+            publish(events);
+        }
+    }
+
+    private void started(Match match, List<ScoreBoardEvent> events) {
+        events.add(new ScoreBoardEvent.MatchStarted(++sequence, match));
+        moved(null, match, events);
+        track(match);
+    }
+
+    private void updated(Match previous, Match match, List<ScoreBoardEvent> events) {
+        events.add(new ScoreBoardEvent.ScoreUpdated(++sequence, match,
+                previous == null ? 0 : previous.getHomeScore(), previous == null ? 0 : previous.getAwayScore()));
+        moved(previous, match, events);
+        track(match);
+    }
+
+    private void finished(Match match, List<ScoreBoardEvent> events) {
+        if (match == null) {
+            return;
+        }
+        events.add(new ScoreBoardEvent.MatchFinished(++sequence, match));
+        moved(match, null, events);
+        liveMatches.remove(match.getKey());
+        liveMatchesById.remove(match.getId());
+    }
+
+    // moves one entry of the summary; the entries between its old and new rank shift by one towards the old rank
+    private void moved(Match previous, Match match, List<ScoreBoardEvent> events) {
+        int size = summary.size();
+        int previousRank = previous == null ? ScoreBoardEvent.NOT_RANKED : rankOf(previous);
+        if (previous != null) {
+            summary = summary.without(previous);
+        }
+        if (match != null) {
+            summary = summary.with(match);
+        }
+        int newRank = match == null ? ScoreBoardEvent.NOT_RANKED : rankOf(match);
+        if (previousRank == newRank) {
+            return;
+        }
+        if (previousRank == ScoreBoardEvent.NOT_RANKED) {
+            addShift(newRank, size, 1, events);
+        } else if (newRank == ScoreBoardEvent.NOT_RANKED) {
+            addShift(previousRank + 1, size, -1, events);
+        } else if (newRank < previousRank) {
+            addShift(newRank, previousRank - 1, 1, events);
+        } else {
+            addShift(previousRank + 1, newRank, -1, events);
+        }
+        Match moved = match != null ? match : previous;
+        events.add(new ScoreBoardEvent.RankChanged(++sequence, moved, previousRank, newRank));
+    }
+
+    private void addShift(int fromRank, int toRank, int shift, List<ScoreBoardEvent> events) {
+        if (fromRank <= toRank) {
+            events.add(new ScoreBoardEvent.RanksShifted(++sequence, fromRank, toRank, shift));
+        }
+    }
+
+    private int rankOf(Match match) {
+        return summary.countWhile(entry -> SummaryPosition.MATCH_ORDER.compare(entry, match) < 0) + 1;
+    }
+
+    private void track(Match match) {
+        liveMatches.put(match.getKey(), match);
+        liveMatchesById.put(match.getId(), match);
+    }
+
+    // the state is published before its events, so a resync always covers the event it replaces
+    private void publish(List<ScoreBoardEvent> events) {
+        published = new Published(sequence, summary);
+        for (ScoreBoardEvent event : events) {
+            publisher.offer(event, (subscriber, dropped) -> {
+                droppedEvents.increment();
+                ((ResyncingSubscriber) subscriber).resyncNeeded.set(true);
+                return false;
+            });
+        }
+    }
+
+    private record Published(long sequence, List<Match> summary) {
+    }
+
+    private final class ResyncingSubscriber implements Flow.Subscriber<ScoreBoardEvent> {
+
+        private final Flow.Subscriber<? super ScoreBoardEvent> subscriber;
+        private final AtomicBoolean resyncNeeded;
+        private Flow.Subscription subscription;
+        private long resyncedSequence;
+
+        private ResyncingSubscriber(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+            this.subscriber = subscriber;
+            this.resyncNeeded = new AtomicBoolean();
+            this.resyncedSequence = -1;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ScoreBoardEvent event) {
+            if (resyncNeeded.getAndSet(false)) {
+                Published current = published;
+                resyncedSequence = current.sequence();
+                subscriber.onNext(new ScoreBoardEvent.Resync(current.sequence(), current.summary()));
+            } else if (event.sequence() <= resyncedSequence) {
+                // already reflected in the resync, so the demand it took is handed back
+                subscription.request(1);
+            } else {
+                subscriber.onNext(event);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * Sorts the live matches on the common fork-join pool once a board holds at least the threshold number of
+ * matches, and leaves smaller boards to {@link SortingSummaryEngine}. Every match is reduced to a sort key of
+ * primitives, read once, which keeps the comparisons free of MatchKey dereferences and gives
+ * exactly the order of {@link SummaryPosition#MATCH_ORDER}.
+ */
+public class ParallelSummaryEngine implements SummaryEngine {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+
+    // highest total score first, then most recently started, then by team pair
+    private static final Comparator<SortKey> KEY_ORDER = (first, second) -> {
+        int result = Integer.compare(second.totalScore, first.totalScore);
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compare(second.startSequence, first.startSequence);
+        return result != 0 ? result : Long.compare(first.pair, second.pair);
+    };
+
+    private final MatchRepository matchRepository;
+    private final int parallelThreshold;
+
+    public ParallelSummaryEngine(MatchRepository matchRepository) {
+        this(matchRepository, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param matchRepository   Repository holding the live matches.
+     * @param parallelThreshold Number of live matches from which the summary is sorted in parallel.
+     */
+    public ParallelSummaryEngine(MatchRepository matchRepository, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive.");
+        }
+        this.matchRepository = matchRepository;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void onStarted(Match match) {
+    }
+
+    @Override
+    public void onScoreUpdated(Match match, int previousTotalScore) {
+    }
+
+    @Override
+    public void onFinished(MatchKey key) {
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition after, int limit) {
+        List<Match> matches = matchRepository.findAll();
+        if (matches.size() < parallelThreshold) {
+            return SortingSummaryEngine.summaryOf(matches, after, limit);
+        }
+        if (limit == 0) {
+            return SummaryPage.EMPTY;
+        }
+        SortKey cursor = after == null ? null : SortKey.of(after);
+        SortKey[] keys = new SortKey[matches.size()];
+        int count = 0;
+        for (Match match : matches) {
+            SortKey key = SortKey.of(match);
+            if (cursor == null || KEY_ORDER.compare(key, cursor) > 0) {
+                keys[count++] = key;
+            }
+        }
+        Arrays.parallelSort(keys, 0, count, KEY_ORDER);
+
+        int size = Math.min(count, limit);
+        if (size == 0) {
+            return SummaryPage.EMPTY;
+        }
+        List<Match> page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            page.add(keys[i].match);
+        }
+        return new SummaryPage(Collections.unmodifiableList(page), keys[size - 1].position());
+    }
+
+    /**
+     * Summary position of a match, captured once so a concurrent score change can not break the sort contract.
+     */
+    private record SortKey(int totalScore, long startSequence, long pair, MatchKey key, Match match) {
+
+        static SortKey of(Match match) {
+            return of(match.getTotalScore(), match.getStartSequence(), match.getKey(), match);
+        }
+
+        static SortKey of(SummaryPosition position) {
+            return of(position.totalScore(), position.startSequence(), position.key(), null);
+        }
+
+        private static SortKey of(int totalScore, long startSequence, MatchKey key, Match match) {
+            long pair = ((long) key.firstTeamId() << 32) | (key.secondTeamId() & 0xFFFFFFFFL);
+            return new SortKey(totalScore, startSequence, pair, key, match);
+        }
+
+        SummaryPosition position() {
+            return new SummaryPosition(totalScore, startSequence, key);
+        }
+    }
+}
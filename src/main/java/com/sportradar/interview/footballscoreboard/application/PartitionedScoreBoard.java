@@ -0,0 +1,312 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchIds;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+
+/**
+ * Spreads matches over independent partitions, each with its own repository, summary engine and locks, so writes
+ * to different partitions never contend. The global summary is produced by k-way merging the already sorted
+ * summaries of the partitions.
+ * <p>
+ * The repository of partition i must assign ids in namespace i (see {@link MatchIds}), which lets id-based calls
+ * go straight to the owning partition. All partitions share the team dictionary of the board, so a team has one id
+ * across partitions.
+ */
+public class PartitionedScoreBoard implements ScoreBoard {
+
+    private final TeamDictionary teams;
+    private final InMemoryScoreBoard[] partitions;
+    private final MatchRepository[] repositories;
+    private final Partitioner partitioner;
+
+    /**
+     * @param partitionCount    Number of partitions.
+     * @param repositoryFactory Creates the repository of a partition, given its index as the id namespace.
+     */
+    public PartitionedScoreBoard(int partitionCount, RepositoryFactory repositoryFactory) {
+        this(partitionCount, repositoryFactory, repository -> new IncrementalSummaryEngine(), Partitioner.byTeamPair());
+    }
+
+    /**
+     * @param partitionCount    Number of partitions.
+     * @param repositoryFactory Creates the repository of a partition, given its index as the id namespace.
+     * @param engineFactory     Creates the summary engine of a partition over its repository.
+     * @param partitioner       Assigns matches to partitions.
+     */
+    public PartitionedScoreBoard(int partitionCount, RepositoryFactory repositoryFactory,
+                                 Function<MatchRepository, SummaryEngine> engineFactory, Partitioner partitioner) {
+        if (partitionCount < 1 || partitionCount > MatchIds.MAX_NAMESPACES) {
+            throw new IllegalArgumentException("Partition count must be between 1 and " + MatchIds.MAX_NAMESPACES + ".");
+        }
+        this.teams = new TeamDictionary();
+        this.partitions = new InMemoryScoreBoard[partitionCount];
+        this.repositories = new MatchRepository[partitionCount];
+        this.partitioner = partitioner;
+        for (int i = 0; i < partitionCount; i++) {
+            repositories[i] = repositoryFactory.create(i, teams);
+            if (repositories[i].teams() != teams) {
+                throw new IllegalArgumentException("Repository of partition " + i + " must use the given teams.");
+            }
+            partitions[i] = new InMemoryScoreBoard(repositories[i], engineFactory.apply(repositories[i]));
+        }
+    }
+
+    /**
+     * @return Number of partitions.
+     */
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    @Override
+    public Match startGame(String homeTeam, String awayTeam) {
+        return partitions[partitionOf(teams.idOf(homeTeam), teams.idOf(awayTeam))].startGame(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        partitionFor(homeTeam, awayTeam).finishGame(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void finishGame(long matchId) {
+        partitionFor(matchId).finishGame(matchId);
+    }
+
+    @Override
+    public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return partitionFor(homeTeam, awayTeam).updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public Match updateScore(long matchId, int homeScore, int awayScore) {
+        return partitionFor(matchId).updateScore(matchId, homeScore, awayScore);
+    }
+
+    /**
+     * Locks the stripes of every affected partition in partition order, then validates the whole batch and stages
+     * the part of each partition. If a part fails, the parts staged before it are rolled back, so the batch is
+     * applied to all partitions or to none.
+     */
+    @Override
+    public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        int[] partitionOfCommand = new int[commands.size()];
+        List<List<ScoreBoardCommand>> commandsByPartition = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            commandsByPartition.add(new ArrayList<>());
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            // commands without a partition are invalid or name a team never registered, validation rejects them
+            partitionOfCommand[i] = partitionOf(commands.get(i));
+            if (partitionOfCommand[i] >= 0) {
+                commandsByPartition.get(partitionOfCommand[i]).add(commands.get(i));
+            }
+        }
+
+        BitSet[] lockedStripes = new BitSet[partitions.length];
+        try {
+            for (int i = 0; i < partitions.length; i++) {
+                if (!commandsByPartition.get(i).isEmpty()) {
+                    lockedStripes[i] = partitions[i].lockBatch(commandsByPartition.get(i));
+                }
+            }
+            BatchValidator.validate(commands, (homeTeam, awayTeam) -> {
+                int partition = findPartitionOf(homeTeam, awayTeam);
+                return partition >= 0 && repositories[partition].findByTeams(homeTeam, awayTeam).isPresent();
+            });
+            return applyLocked(partitionOfCommand, commandsByPartition);
+        } finally {
+            for (int i = partitions.length - 1; i >= 0; i--) {
+                if (lockedStripes[i] != null) {
+                    partitions[i].unlockBatch(lockedStripes[i]);
+                }
+            }
+        }
+    }
+
+    private List<Match> applyLocked(int[] partitionOfCommand, List<List<ScoreBoardCommand>> commandsByPartition) {
+        List<InMemoryScoreBoard.StagedBatch> staged = new ArrayList<>(partitions.length);
+        try {
+            for (int i = 0; i < partitions.length; i++) {
+                List<ScoreBoardCommand> partitionCommands = commandsByPartition.get(i);
+                staged.add(partitionCommands.isEmpty() ? null : partitions[i].stage(partitionCommands));
+            }
+        } catch (RuntimeException e) {
+            for (int i = staged.size() - 1; i >= 0; i--) {
+                if (staged.get(i) != null) {
+                    staged.get(i).rollBack();
+                }
+            }
+            throw e;
+        }
+
+        List<List<Match>> resultsByPartition = new ArrayList<>(partitions.length);
+        for (InMemoryScoreBoard.StagedBatch batch : staged) {
+            resultsByPartition.add(batch == null ? List.of() : batch.commit());
+        }
+        int[] nextResult = new int[partitions.length];
+        List<Match> results = new ArrayList<>(partitionOfCommand.length);
+        for (int partition : partitionOfCommand) {
+            results.add(resultsByPartition.get(partition).get(nextResult[partition]++));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return getSummary(null, Integer.MAX_VALUE).matches();
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        return getSummary(null, limit).matches();
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("Summary limit can not be negative.");
+        }
+        if (pageSize == 0) {
+            return SummaryPage.EMPTY;
+        }
+        List<List<Match>> partitionPages = new ArrayList<>(partitions.length);
+        PriorityQueue<Head> heads = new PriorityQueue<>(partitions.length);
+        int available = 0;
+        for (int i = 0; i < partitions.length; i++) {
+            List<Match> page = partitions[i].getSummary(afterCursor, pageSize).matches();
+            partitionPages.add(page);
+            available += page.size();
+            if (!page.isEmpty()) {
+                heads.add(new Head(SummaryPosition.of(page.get(0)), i, 0));
+            }
+        }
+
+        List<Match> merged = new ArrayList<>(Math.min(pageSize, available));
+        SummaryPosition last = null;
+        while (merged.size() < pageSize && !heads.isEmpty()) {
+            Head head = heads.poll();
+            List<Match> page = partitionPages.get(head.partition());
+            merged.add(page.get(head.index()));
+            last = head.position();
+            int next = head.index() + 1;
+            if (next < page.size()) {
+                heads.add(new Head(SummaryPosition.of(page.get(next)), head.partition(), next));
+            }
+        }
+        return last == null ? SummaryPage.EMPTY : new SummaryPage(Collections.unmodifiableList(merged), last);
+    }
+
+    @Override
+    public List<Match> getCurrentMatches() {
+        List<Match> matches = new ArrayList<>();
+        for (ScoreBoard partition : partitions) {
+            matches.addAll(partition.getCurrentMatches());
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    @Override
+    public int getCurrentMatchCount() {
+        int count = 0;
+        for (ScoreBoard partition : partitions) {
+            count += partition.getCurrentMatchCount();
+        }
+        return count;
+    }
+
+    /**
+     * A team can play in several partitions, so every partition is asked through its own team index.
+     */
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        List<Match> matches = new ArrayList<>();
+        for (ScoreBoard partition : partitions) {
+            matches.addAll(partition.getMatchesOfTeam(team));
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return teams;
+    }
+
+    private ScoreBoard partitionFor(String homeTeam, String awayTeam) {
+        int partition = findPartitionOf(homeTeam, awayTeam);
+        if (partition < 0) {
+            throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
+        }
+        return partitions[partition];
+    }
+
+    private ScoreBoard partitionFor(long matchId) {
+        int partition = MatchIds.namespaceOf(matchId);
+        if (matchId < 0 || partition >= partitions.length) {
+            throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+        }
+        return partitions[partition];
+    }
+
+    // starts register their teams, the other commands only look them up
+    private int partitionOf(ScoreBoardCommand command) {
+        if (command == null) {
+            return -1;
+        }
+        if (!(command instanceof ScoreBoardCommand.StartGame)) {
+            return findPartitionOf(command.homeTeam(), command.awayTeam());
+        }
+        try {
+            return partitionOf(teams.idOf(command.homeTeam()), teams.idOf(command.awayTeam()));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return Partition of the match, or -1 if either team has never been registered.
+     */
+    private int findPartitionOf(String homeTeam, String awayTeam) {
+        int homeId = teams.findId(homeTeam);
+        int awayId = teams.findId(awayTeam);
+        if (homeId == TeamDictionary.UNKNOWN_ID || awayId == TeamDictionary.UNKNOWN_ID) {
+            return -1;
+        }
+        return partitionOf(homeId, awayId);
+    }
+
+    private int partitionOf(int homeId, int awayId) {
+        return partitioner.partitionOf(teams, homeId, awayId, partitions.length);
+    }
+
+    @FunctionalInterface
+    public interface RepositoryFactory {
+
+        /**
+         * @param namespace Index of the partition, the id namespace the repository must assign ids in.
+         * @param teams     Team dictionary of the board, which the repository must resolve team names with.
+         * @return Repository of the partition.
+         */
+        MatchRepository create(int namespace, TeamDictionary teams);
+    }
+
+    // score captured when the match became the head of its partition, so the queue order stays consistent
+    // while scores change concurrently
+    private record Head(SummaryPosition position, int partition, int index) implements Comparable<Head> {
+
+        @Override
+        public int compareTo(Head other) {
+            return position.compareTo(other.position);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.function.ToIntFunction;
+
+@FunctionalInterface
+public interface Partitioner {
+
+    /**
+     * @param teams          Dictionary the team ids come from.
+     * @param teamId1        One team id.
+     * @param teamId2        The other team id.
+     * @param partitionCount Number of partitions.
+     * @return Partition of the match between the teams, between 0 and partitionCount - 1, regardless of home/away order.
+     */
+    int partitionOf(TeamDictionary teams, int teamId1, int teamId2, int partitionCount);
+
+    /**
+     * @return Partitioner spreading matches evenly by the hash of their team pair.
+     */
+    static Partitioner byTeamPair() {
+        return (teams, teamId1, teamId2, partitionCount) -> {
+            int hash = MatchKey.hashOf(teamId1, teamId2);
+            return Math.floorMod(hash ^ (hash >>> 16), partitionCount);
+        };
+    }
+
+    /**
+     * Keeps every match of a competition in the same partition. The competition is looked up by the team
+     * with the lower id, so both teams of a match are expected to belong to the same competition.
+     *
+     * @param competitionOfTeam Competition index of a team, by team name.
+     * @return Partitioner placing each competition in the partition of its index modulo the partition count.
+     */
+    static Partitioner byCompetition(ToIntFunction<String> competitionOfTeam) {
+        return (teams, teamId1, teamId2, partitionCount) ->
+                Math.floorMod(competitionOfTeam.applyAsInt(teams.nameOf(Math.min(teamId1, teamId2))), partitionCount);
+    }
+}
@@ -0,0 +1,247 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+
+/**
+ * Immutable sorted list backed by an AVL tree whose nodes know their subtree size. Adding or removing an element
+ * returns a new list in O(log n) that shares every node off the changed path with this one; positional access
+ * takes O(log n) and iteration O(n).
+ *
+ * @param <E> Element type; elements equal by the comparator replace each other.
+ */
+final class PersistentSortedList<E> extends AbstractList<E> {
+
+    private final Comparator<? super E> order;
+    private final Node<E> root;
+
+    private PersistentSortedList(Comparator<? super E> order, Node<E> root) {
+        this.order = order;
+        this.root = root;
+    }
+
+    /**
+     * @param order    Order of the list.
+     * @param elements Elements in any order.
+     * @return List holding the elements.
+     */
+    static <E> PersistentSortedList<E> of(Comparator<? super E> order, List<? extends E> elements) {
+        List<E> sorted = new ArrayList<>(elements);
+        sorted.sort(order);
+        return new PersistentSortedList<>(order, build(sorted, 0, sorted.size()));
+    }
+
+    /**
+     * @param element Element to add.
+     * @return List with the element added, replacing an element equal to it by the order.
+     */
+    PersistentSortedList<E> with(E element) {
+        return new PersistentSortedList<>(order, insert(root, element));
+    }
+
+    /**
+     * @param element Element to remove.
+     * @return List without the element equal to it by the order, or this list if there is none.
+     */
+    PersistentSortedList<E> without(E element) {
+        Node<E> removed = remove(root, element);
+        return removed == root ? this : new PersistentSortedList<>(order, removed);
+    }
+
+    /**
+     * @param probe Element to look for.
+     * @return The element of the list equal to the probe by the order, or null.
+     */
+    E find(E probe) {
+        Node<E> node = root;
+        while (node != null) {
+            int result = order.compare(probe, node.element);
+            if (result == 0) {
+                return node.element;
+            }
+            node = result < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * @param leading Predicate holding for a prefix of the list and for no element after it.
+     * @return Length of the prefix, found by descending the tree.
+     */
+    int countWhile(Predicate<? super E> leading) {
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (leading.test(node.element)) {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size() + ".");
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index == leftSize) {
+                return node.element;
+            }
+            if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Deque<Node<E>> path = new ArrayDeque<>();
+        pushLeft(path, root);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeft(path, node.right);
+                return node.element;
+            }
+        };
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int result = order.compare(element, node.element);
+        if (result == 0) {
+            return new Node<>(element, node.left, node.right);
+        }
+        return result < 0
+                ? balance(node.element, insert(node.left, element), node.right)
+                : balance(node.element, node.left, insert(node.right, element));
+    }
+
+    private Node<E> remove(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int result = order.compare(element, node.element);
+        if (result < 0) {
+            Node<E> left = remove(node.left, element);
+            return left == node.left ? node : balance(node.element, left, node.right);
+        }
+        if (result > 0) {
+            Node<E> right = remove(node.right, element);
+            return right == node.right ? node : balance(node.element, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(first.element, node.left, removeFirst(node.right));
+    }
+
+    private static <E> Node<E> removeFirst(Node<E> node) {
+        return node.left == null ? node.right : balance(node.element, removeFirst(node.left), node.right);
+    }
+
+    private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.element, left.left, left.right);
+            }
+            return rotateRight(element, left, right);
+        }
+        if (difference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.element, right.left, right.right);
+            }
+            return rotateLeft(element, left, right);
+        }
+        return new Node<>(element, left, right);
+    }
+
+    private static <E> Node<E> rotateRight(E element, Node<E> left, Node<E> right) {
+        return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+    }
+
+    private static <E> Node<E> rotateLeft(E element, Node<E> left, Node<E> right) {
+        return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+    }
+
+    private static <E> Node<E> build(List<E> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(sorted.get(middle), build(sorted, from, middle), build(sorted, middle + 1, to));
+    }
+
+    private static <E> void pushLeft(Deque<Node<E>> path, Node<E> node) {
+        while (node != null) {
+            path.push(node);
+            node = node.left;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<E> {
+
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
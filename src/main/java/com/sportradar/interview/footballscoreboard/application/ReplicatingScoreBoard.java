@@ -0,0 +1,339 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Leader of a replicated scoreboard. Appends a {@link ReplicationRecord} for every mutation to a bounded in-memory
+ * log which {@link FollowerScoreBoard}s pull through a {@link ReplicationSource}; this board is the in-process
+ * source. Followers further behind than the retained records are sent a snapshot instead.
+ * Writes to the same match are serialized by lock stripes, so its records are appended in the order the delegate
+ * applied them, and writes to other matches run in parallel; only appending to the log takes the monitor. Writes
+ * must all go through this board; reads go straight to the delegate.
+ */
+public class ReplicatingScoreBoard implements ScoreBoard, ReplicationSource {
+
+    private static final int DEFAULT_RETAINED_RECORDS = 65_536;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ScoreBoard delegate;
+    private final TeamDictionary teams;
+    private final StripedLocks locks;
+    // live matches of the delegate, to find the match of an id without scanning; an entry only changes under its stripe
+    private final Map<MatchKey, Match> liveMatches;
+    private final Map<Long, Match> liveMatchesById;
+    // log and headOffset are guarded by this
+    private final ReplicationRecord[] log;
+    private long headOffset;
+
+    public ReplicatingScoreBoard(ScoreBoard delegate) {
+        this(delegate, DEFAULT_RETAINED_RECORDS);
+    }
+
+    /**
+     * @param delegate        Board the writes are applied to.
+     * @param retainedRecords Number of most recent records kept for followers to catch up from.
+     */
+    public ReplicatingScoreBoard(ScoreBoard delegate, int retainedRecords) {
+        if (retainedRecords <= 0) {
+            throw new IllegalArgumentException("Retained records must be positive.");
+        }
+        this.delegate = delegate;
+        this.teams = delegate.teams();
+        this.locks = new StripedLocks(LOCK_STRIPES);
+        this.liveMatches = new ConcurrentHashMap<>();
+        this.liveMatchesById = new ConcurrentHashMap<>();
+        this.log = new ReplicationRecord[retainedRecords];
+        delegate.getCurrentMatches().forEach(this::track);
+    }
+
+    /**
+     * @return Offset of the last record written.
+     */
+    public synchronized long getHeadOffset() {
+        return headOffset;
+    }
+
+    @Override
+    public ReplicationBatch fetch(long afterOffset, int maxRecords, long maxWaitMillis) {
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("Max records must be positive.");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Max wait can not be negative.");
+        }
+        List<Match> matches;
+        long snapshotOffset;
+        synchronized (this) {
+            awaitRecordAfter(afterOffset, maxWaitMillis);
+            long oldestOffset = Math.max(1, headOffset - log.length + 1);
+            if (afterOffset != NO_OFFSET && afterOffset <= headOffset && afterOffset >= oldestOffset - 1) {
+                int count = (int) Math.min(maxRecords, headOffset - afterOffset);
+                List<ReplicationRecord> records = new ArrayList<>(count);
+                for (long offset = afterOffset + 1; offset <= afterOffset + count; offset++) {
+                    records.add(log[slotOf(offset)]);
+                }
+                return ReplicationBatch.ofRecords(headOffset, records);
+            }
+        }
+        // every stripe is held so no write is applied to the delegate without its record being at or before the
+        // snapshot offset; stripes are never taken while holding the monitor, which writers take under their stripe
+        BitSet lockedStripes = locks.lockAll();
+        try {
+            matches = delegate.getCurrentMatches();
+            synchronized (this) {
+                snapshotOffset = headOffset;
+            }
+        } finally {
+            locks.unlockAll(lockedStripes);
+        }
+        // copied after releasing the stripes, so a catching-up follower does not block writers; a match changed in
+        // the meantime is copied with a newer state, which the records after snapshotOffset set again when replayed
+        List<Match> snapshot = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            snapshot.add(match.copy());
+        }
+        return ReplicationBatch.ofSnapshot(snapshotOffset, snapshot);
+    }
+
+    @Override
+    public Match startGame(String homeTeam, String awayTeam) {
+        MatchKey key = startKeyOf(homeTeam, awayTeam);
+        if (key == null) {
+            // invalid names, which the delegate rejects
+            return delegate.startGame(homeTeam, awayTeam);
+        }
+        ReentrantLock lock = locks.lockFor(key);
+        lock.lock();
+        try {
+            Match match = delegate.startGame(homeTeam, awayTeam);
+            track(match);
+            appendStarted(match);
+            return match;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGame(String homeTeam, String awayTeam) {
+        MatchKey key = keyOf(homeTeam, awayTeam);
+        ReentrantLock lock = locks.lockFor(key);
+        lock.lock();
+        try {
+            delegate.finishGame(homeTeam, awayTeam);
+            appendFinished(untrack(liveMatches.get(key)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGame(long matchId) {
+        ReentrantLock lock = locks.lockFor(liveMatchOf(matchId).getKey());
+        lock.lock();
+        try {
+            delegate.finishGame(matchId);
+            appendFinished(untrack(liveMatchesById.get(matchId)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        ReentrantLock lock = locks.lockFor(keyOf(homeTeam, awayTeam));
+        lock.lock();
+        try {
+            Match match = delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            appendUpdated(match);
+            return match;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Match updateScore(long matchId, int homeScore, int awayScore) {
+        ReentrantLock lock = locks.lockFor(liveMatchOf(matchId).getKey());
+        lock.lock();
+        try {
+            Match match = delegate.updateScore(matchId, homeScore, awayScore);
+            appendUpdated(match);
+            return match;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        List<MatchKey> keys = new ArrayList<>(commands.size());
+        for (ScoreBoardCommand command : commands) {
+            MatchKey key = lockKeyOf(command);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        BitSet lockedStripes = locks.lockAll(keys);
+        try {
+            List<Match> results = delegate.applyBatch(commands);
+            synchronized (this) {
+                for (int i = 0; i < commands.size(); i++) {
+                    Match result = results.get(i);
+                    switch (commands.get(i)) {
+                        case ScoreBoardCommand.StartGame start -> {
+                            track(result);
+                            append(new ReplicationRecord.Started(headOffset + 1, result.copy()));
+                        }
+                        case ScoreBoardCommand.UpdateScore update -> append(updatedRecordOf(result));
+                        case ScoreBoardCommand.FinishGame finish -> {
+                            untrack(result);
+                            append(new ReplicationRecord.Finished(headOffset + 1, result.getHomeTeam(), result.getAwayTeam()));
+                        }
+                    }
+                }
+                notifyAll();
+            }
+            return results;
+        } finally {
+            locks.unlockAll(lockedStripes);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return delegate.getSummary();
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        return delegate.getSummary(limit);
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        return delegate.getSummary(afterCursor, pageSize);
+    }
+
+    @Override
+    public List<Match> getCurrentMatches() {
+        return delegate.getCurrentMatches();
+    }
+
+    @Override
+    public int getCurrentMatchCount() {
+        return delegate.getCurrentMatchCount();
+    }
+
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        return delegate.getMatchesOfTeam(team);
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+
+    private void awaitRecordAfter(long afterOffset, long maxWaitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        long remaining;
+        while (afterOffset == headOffset && (remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private MatchKey keyOf(String homeTeam, String awayTeam) {
+        MatchKey key = teams.findKey(homeTeam, awayTeam);
+        if (key == null) {
+            throw new IllegalArgumentException("Game between " + homeTeam + " and " + awayTeam + " not found on the scoreboard.");
+        }
+        return key;
+    }
+
+    private Match liveMatchOf(long matchId) {
+        Match match = liveMatchesById.get(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException("Game with id " + matchId + " not found on the scoreboard.");
+        }
+        return match;
+    }
+
+    private MatchKey startKeyOf(String homeTeam, String awayTeam) {
+        try {
+            return MatchKey.of(teams.idOf(homeTeam), teams.idOf(awayTeam));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private MatchKey lockKeyOf(ScoreBoardCommand command) {
+        if (command == null) {
+            return null;
+        }
+        // other commands naming a team never registered can only be rejected by the delegate
+        return command instanceof ScoreBoardCommand.StartGame
+                ? startKeyOf(command.homeTeam(), command.awayTeam())
+                : teams.findKey(command.homeTeam(), command.awayTeam());
+    }
+
+    private void track(Match match) {
+        liveMatches.put(match.getKey(), match);
+        liveMatchesById.put(match.getId(), match);
+    }
+
+    private Match untrack(Match match) {
+        if (match != null) {
+            liveMatches.remove(match.getKey());
+            liveMatchesById.remove(match.getId());
+        }
+        return match;
+    }
+
+    private synchronized void appendStarted(Match match) {
+        append(new ReplicationRecord.Started(headOffset + 1, match.copy()));
+        notifyAll();
+    }
+
+    private synchronized void appendUpdated(Match match) {
+        append(updatedRecordOf(match));
+        notifyAll();
+    }
+
+    private synchronized void appendFinished(Match match) {
+        if (match != null) {
+            append(new ReplicationRecord.Finished(headOffset + 1, match.getHomeTeam(), match.getAwayTeam()));
+            notifyAll();
+        }
+    }
+
+    private ReplicationRecord updatedRecordOf(Match match) {
+        return new ReplicationRecord.ScoreUpdated(headOffset + 1, match.getHomeTeam(), match.getAwayTeam(),
+                match.getHomeScore(), match.getAwayScore());
+    }
+
+    private void append(ReplicationRecord record) {
+        log[slotOf(record.offset())] = record;
+        headOffset = record.offset();
+    }
+
+    private int slotOf(long offset) {
+        return (int) ((offset - 1) % log.length);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+
+import java.util.List;
+
+
+/**
+ * Answer of a {@link ReplicationSource} to a fetch: either the records following the requested offset, or a
+ * snapshot of every live match when those records are no longer available.
+ *
+ * @param leaderOffset Offset of the last record the leader had written when it answered.
+ * @param snapshot     Detached live matches at {@code leaderOffset}, or null if the batch holds records.
+ * @param records      Records in log order with consecutive offsets; empty if the batch holds a snapshot.
+ */
+public record ReplicationBatch(long leaderOffset, List<Match> snapshot, List<ReplicationRecord> records) {
+
+    /**
+     * @param leaderOffset Offset of the last record the leader had written.
+     * @param records      Records following the requested offset.
+     * @return A batch of records.
+     */
+    public static ReplicationBatch ofRecords(long leaderOffset, List<ReplicationRecord> records) {
+        return new ReplicationBatch(leaderOffset, null, List.copyOf(records));
+    }
+
+    /**
+     * @param leaderOffset Offset the snapshot was taken at.
+     * @param matches      Detached live matches.
+     * @return A snapshot batch.
+     */
+    public static ReplicationBatch ofSnapshot(long leaderOffset, List<Match> matches) {
+        return new ReplicationBatch(leaderOffset, List.copyOf(matches), List.of());
+    }
+
+    /**
+     * @return True if the batch replaces the follower's state instead of extending it.
+     */
+    public boolean isSnapshot() {
+        return snapshot != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+
+
+/**
+ * Entry of the replication log written by a {@link ReplicatingScoreBoard}. Offsets start at 1 and increase by one
+ * per record, so a follower that applied every record up to an offset holds the leader's state at that offset.
+ */
+public sealed interface ReplicationRecord {
+
+    /**
+     * @return Position of the record in the log.
+     */
+    long offset();
+
+    /**
+     * @return Home team name.
+     */
+    String homeTeam();
+
+    /**
+     * @return Away team name.
+     */
+    String awayTeam();
+
+    /**
+     * @param offset Position of the record in the log.
+     * @param match  Detached copy of the started match, carrying the start time and start sequence followers must
+     *               keep so their summaries break ties like the leader's. Must not be modified.
+     */
+    record Started(long offset, Match match) implements ReplicationRecord {
+
+        @Override
+        public String homeTeam() {
+            return match.getHomeTeam();
+        }
+
+        @Override
+        public String awayTeam() {
+            return match.getAwayTeam();
+        }
+    }
+
+    record ScoreUpdated(long offset, String homeTeam, String awayTeam, int homeScore, int awayScore) implements ReplicationRecord {
+    }
+
+    record Finished(long offset, String homeTeam, String awayTeam) implements ReplicationRecord {
+    }
+}
@@ -0,0 +1,26 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+/**
+ * Transport a {@link FollowerScoreBoard} pulls the replication log through. The leader itself is the in-process
+ * source; other implementations carry the same requests to a leader in another process.
+ */
+public interface ReplicationSource {
+
+    /**
+     * Offset of a follower that holds no state yet; fetching after it always returns a snapshot.
+     */
+    long NO_OFFSET = -1L;
+
+    /**
+     * Returns the records following the given offset, or a snapshot if the follower holds no state, is ahead of the
+     * leader, or is further behind than the leader retains records. Waits for the next record if the follower is
+     * up to date.
+     *
+     * @param afterOffset   Offset of the last record the follower applied, or {@link #NO_OFFSET}.
+     * @param maxRecords    Maximum number of records to return.
+     * @param maxWaitMillis How long to wait for a record if there is none yet; 0 returns at once.
+     * @return Records or snapshot to apply; an empty batch if nothing was written within the wait.
+     * @throws IllegalArgumentException if maxRecords is not positive or maxWaitMillis is negative.
+     */
+    ReplicationBatch fetch(long afterOffset, int maxRecords, long maxWaitMillis);
+}
@@ -0,0 +1,31 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+/**
+ * Point-in-time replication state of a {@link FollowerScoreBoard}.
+ *
+ * @param appliedOffset   Offset of the last record applied, or {@link ReplicationSource#NO_OFFSET} before the
+ *                        first snapshot.
+ * @param leaderOffset    Last offset the leader reported, as of the most recent fetch.
+ * @param stalenessNanos  Time since the start of the last fetch that left the follower fully caught up; the
+ *                        follower reflects every write the leader acknowledged before then.
+ * @param recordsApplied  Records applied since the follower was created.
+ * @param snapshotsLoaded Snapshots the follower had to load, including the initial one.
+ * @param failedFetches   Fetches that failed, e.g. because the transport was down.
+ */
+public record ReplicationStatus(long appliedOffset, long leaderOffset, long stalenessNanos, long recordsApplied,
+                                long snapshotsLoaded, long failedFetches) {
+
+    /**
+     * @return Number of records the follower is behind the leader, as of the most recent fetch.
+     */
+    public long lagRecords() {
+        return Math.max(0, leaderOffset - appliedOffset);
+    }
+
+    /**
+     * @return True if the follower had applied everything the leader reported in the most recent fetch.
+     */
+    public boolean isCaughtUp() {
+        return appliedOffset >= 0 && appliedOffset >= leaderOffset;
+    }
+}
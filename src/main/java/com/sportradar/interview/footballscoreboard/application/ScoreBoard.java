@@ -1,6 +1,7 @@
 package com.sportradar.interview.footballscoreboard.application;
 
 import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
@@ -22,6 +23,12 @@ public interface ScoreBoard {
      */
     void finishGame(@NotNull String homeTeam, @NotNull String awayTeam);
 
+    /**
+     * @param matchId Id of the Match returned by startGame.
+     * @throws IllegalArgumentException if game not found.
+     */
+    void finishGame(long matchId);
+
     /**
      * @param homeTeam  Home team name.
      * @param awayTeam  Away team name.
@@ -32,13 +39,73 @@ public interface ScoreBoard {
      */
     Match updateScore(@NotNull String homeTeam, @NotNull String awayTeam, int homeScore, int awayScore);
 
+    /**
+     * @param matchId   Id of the Match returned by startGame.
+     * @param homeScore New home score.
+     * @param awayScore New away score.
+     * @return The updated Match.
+     * @throws IllegalArgumentException if game not found or scores negative.
+     */
+    Match updateScore(long matchId, int homeScore, int awayScore);
+
+    /**
+     * Applies all commands or none of them. The whole batch is validated up front and the summary
+     * is maintained once per affected match rather than once per command.
+     *
+     * @param commands Start, update and finish commands, applied in list order.
+     * @return Unmodifiable list with the resulting Match for each command, in command order.
+     * @throws IllegalArgumentException if any command would be rejected; no command is applied.
+     */
+    List<Match> applyBatch(@NotNull List<ScoreBoardCommand> commands);
+
     /**
      * @return Unmodifiable list of Match objects.
      */
     List<Match> getSummary();
 
+    /**
+     * The cost depends on the summary engine of the board. Only {@link IncrementalSummaryEngine}, the default of
+     * {@link InMemoryScoreBoard}, returns the top k of n matches in O(log n + k) on every read, paying O(log n) per
+     * start, score update and finish instead. {@link SortingSummaryEngine} selects them in O(n log k) per read, and
+     * {@link ParallelSummaryEngine} sorts all matches in parallel once the board is large. {@link CachingSummaryEngine}
+     * sorts once after each change and serves the reads until the next change in O(log n + k).
+     *
+     * @param limit Maximum number of matches to return.
+     * @return Unmodifiable list of the top limit Match objects in summary order.
+     * @throws IllegalArgumentException if limit is negative.
+     */
+    List<Match> getSummary(int limit);
+
+    /**
+     * Costs the same as {@link #getSummary(int)} with the page size as limit.
+     *
+     * @param afterCursor Cursor of the previous page, or null for the first page.
+     * @param pageSize    Maximum number of matches to return.
+     * @return Page of Match objects following the cursor in summary order.
+     * @throws IllegalArgumentException if pageSize is negative.
+     */
+    SummaryPage getSummary(SummaryPosition afterCursor, int pageSize);
+
     /**
      * @return Unmodifiable list of ongoing matches.
      */
     List<Match> getCurrentMatches();
+
+    /**
+     * @return Number of ongoing matches, without copying them.
+     */
+    default int getCurrentMatchCount() {
+        return getCurrentMatches().size();
+    }
+
+    /**
+     * @param team Team name in any spelling.
+     * @return Unmodifiable list of ongoing matches the team plays in, home or away.
+     */
+    List<Match> getMatchesOfTeam(@NotNull String team);
+
+    /**
+     * @return Dictionary the team ids of the matches on this board come from, owned by this board.
+     */
+    TeamDictionary teams();
 }
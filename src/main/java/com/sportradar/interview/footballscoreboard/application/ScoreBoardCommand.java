@@ -0,0 +1,45 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.TeamPair;
+
+public sealed interface ScoreBoardCommand {
+
+    /**
+     * @return Home team name.
+     */
+    String homeTeam();
+
+    /**
+     * @return Away team name.
+     */
+    String awayTeam();
+
+    /**
+     * @return Teams of the match the command applies to.
+     * @throws IllegalArgumentException if either team name is null or blank.
+     */
+    default TeamPair key() {
+        return TeamPair.of(homeTeam(), awayTeam());
+    }
+
+    static ScoreBoardCommand startGame(String homeTeam, String awayTeam) {
+        return new StartGame(homeTeam, awayTeam);
+    }
+
+    static ScoreBoardCommand updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return new UpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    static ScoreBoardCommand finishGame(String homeTeam, String awayTeam) {
+        return new FinishGame(homeTeam, awayTeam);
+    }
+
+    record StartGame(String homeTeam, String awayTeam) implements ScoreBoardCommand {
+    }
+
+    record UpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreBoardCommand {
+    }
+
+    record FinishGame(String homeTeam, String awayTeam) implements ScoreBoardCommand {
+    }
+}
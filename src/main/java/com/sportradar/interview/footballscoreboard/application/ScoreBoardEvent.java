@@ -0,0 +1,66 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+
+import java.util.List;
+
+public sealed interface ScoreBoardEvent {
+
+    /**
+     * Rank of a match which is not on the summary.
+     */
+    int NOT_RANKED = 0;
+
+    /**
+     * @return Position of the event in the stream, increasing by one per event.
+     */
+    long sequence();
+
+    /**
+     * @param match Read-only copy of the match, as of the event.
+     */
+    record MatchStarted(long sequence, Match match) implements ScoreBoardEvent {
+    }
+
+    /**
+     * @param match Read-only copy of the match, as of the event.
+     */
+    record ScoreUpdated(long sequence, Match match, int previousHomeScore, int previousAwayScore) implements ScoreBoardEvent {
+    }
+
+    /**
+     * @param match Read-only copy of the match, as of the event.
+     */
+    record MatchFinished(long sequence, Match match) implements ScoreBoardEvent {
+    }
+
+    /**
+     * Rank change of the match a mutation moved. The matches it passed are covered by the {@link RanksShifted}
+     * published just before.
+     *
+     * @param match        Read-only copy of the match, as of the event.
+     * @param previousRank 1-based rank on the summary before the change, or NOT_RANKED.
+     * @param newRank      1-based rank on the summary after the change, or NOT_RANKED.
+     */
+    record RankChanged(long sequence, Match match, int previousRank, int newRank) implements ScoreBoardEvent {
+    }
+
+    /**
+     * Every match ranked from fromRank to toRank before the change, both inclusive, moved by shift. The match whose
+     * {@link RankChanged} follows is never among them.
+     *
+     * @param shift 1 if the matches moved down the summary, -1 if they moved up.
+     */
+    record RanksShifted(long sequence, int fromRank, int toRank, int shift) implements ScoreBoardEvent {
+    }
+
+    /**
+     * Replaces the first event delivered to a subscriber after events were dropped for it. Whatever the subscriber
+     * derived from earlier events is to be rebuilt from the summary; events up to and including this sequence are
+     * already reflected in it and are not delivered.
+     *
+     * @param summary Read-only matches in summary order, as of this sequence.
+     */
+    record Resync(long sequence, List<Match> summary) implements ScoreBoardEvent {
+    }
+}
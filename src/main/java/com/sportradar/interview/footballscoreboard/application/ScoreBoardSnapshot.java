@@ -0,0 +1,155 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * Immutable, versioned view of a scoreboard. Matches held by a snapshot are read-only copies, see
+ * {@link Match#readOnlyCopy()}, which are never updated by the scoreboard and reject changes. Both orders and the
+ * matches of each team are kept in persistent trees, so a new version shares every unchanged entry with the previous
+ * one and a mutation costs O(log n) instead of copying the lists.
+ */
+public final class ScoreBoardSnapshot {
+
+    private static final Comparator<Match> START_ORDER = Comparator.comparingLong(Match::getStartSequence)
+            .thenComparing(Match::getKey);
+    private static final Comparator<TeamEntry> TEAM_ORDER = Comparator.comparingInt(TeamEntry::teamId)
+            .thenComparing(TeamEntry::match, START_ORDER);
+
+    private final long version;
+    private final PersistentSortedList<Match> summary;
+    private final PersistentSortedList<Match> currentMatches;
+    // every match twice, under its home and its away team id
+    private final PersistentSortedList<TeamEntry> matchesByTeam;
+
+    private ScoreBoardSnapshot(long version, PersistentSortedList<Match> summary,
+                               PersistentSortedList<Match> currentMatches, PersistentSortedList<TeamEntry> matchesByTeam) {
+        this.version = version;
+        this.summary = summary;
+        this.currentMatches = currentMatches;
+        this.matchesByTeam = matchesByTeam;
+    }
+
+    static ScoreBoardSnapshot of(long version, List<Match> matches) {
+        List<Match> copies = matches.stream().map(Match::readOnlyCopy).toList();
+        List<TeamEntry> entries = new ArrayList<>(copies.size() * 2);
+        for (Match copy : copies) {
+            entries.add(new TeamEntry(copy.getHomeTeamId(), copy));
+            entries.add(new TeamEntry(copy.getAwayTeamId(), copy));
+        }
+        return new ScoreBoardSnapshot(version, PersistentSortedList.of(SummaryPosition.MATCH_ORDER, copies),
+                PersistentSortedList.of(START_ORDER, copies), PersistentSortedList.of(TEAM_ORDER, entries));
+    }
+
+    /**
+     * @return Version number, increased by every published mutation.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return Unmodifiable list of matches in summary order.
+     */
+    public List<Match> summary() {
+        return summary;
+    }
+
+    /**
+     * @return Unmodifiable list of matches in the order they were started.
+     */
+    public List<Match> currentMatches() {
+        return currentMatches;
+    }
+
+    /**
+     * @param teamId Id of the team in the dictionary of the scoreboard.
+     * @return Unmodifiable list of matches the team plays in, home or away, in the order they were started. Found by
+     * descending the per-team tree, in O(log n) per match.
+     */
+    public List<Match> matchesOf(int teamId) {
+        int from = matchesByTeam.countWhile(entry -> entry.teamId() < teamId);
+        int to = matchesByTeam.countWhile(entry -> entry.teamId() <= teamId);
+        List<Match> matches = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            matches.add(matchesByTeam.get(i).match());
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * @param match Started or updated match.
+     * @return Next version, holding the match with its current score.
+     */
+    ScoreBoardSnapshot withMatch(Match match) {
+        return change(match, false).nextVersion();
+    }
+
+    /**
+     * @param match Finished match; only its start sequence and teams are used to find it.
+     * @return Next version, without the match.
+     */
+    ScoreBoardSnapshot withoutMatch(Match match) {
+        return change(match, true).nextVersion();
+    }
+
+    ScoreBoardSnapshot withBatch(List<ScoreBoardCommand> commands, List<Match> results) {
+        ScoreBoardSnapshot changed = this;
+        for (int i = 0; i < commands.size(); i++) {
+            changed = changed.change(results.get(i), commands.get(i) instanceof ScoreBoardCommand.FinishGame);
+        }
+        return changed.nextVersion();
+    }
+
+    /**
+     * Applies one change under the version of this snapshot, to publish several changes as one version.
+     *
+     * @param match    Started, updated or finished match; a finished one is only found by start sequence and teams.
+     * @param finished true if the match is finished.
+     * @return Snapshot with the change, or this snapshot if a finished match is not in it.
+     */
+    ScoreBoardSnapshot change(Match match, boolean finished) {
+        Match previous = currentMatches.find(match);
+        PersistentSortedList<Match> changedSummary = previous == null ? summary : summary.without(previous);
+        if (finished) {
+            return previous == null ? this : new ScoreBoardSnapshot(version, changedSummary,
+                    currentMatches.without(previous), matchesByTeam
+                    .without(new TeamEntry(previous.getHomeTeamId(), previous))
+                    .without(new TeamEntry(previous.getAwayTeamId(), previous)));
+        }
+        Match copy = match.readOnlyCopy();
+        // an entry equal by the order is replaced, so an updated match needs no removal from the per-team tree
+        return new ScoreBoardSnapshot(version, changedSummary.with(copy), currentMatches.with(copy), matchesByTeam
+                .with(new TeamEntry(copy.getHomeTeamId(), copy))
+                .with(new TeamEntry(copy.getAwayTeamId(), copy)));
+    }
+
+    /**
+     * @return Snapshot with the same matches and the following version.
+     */
+    ScoreBoardSnapshot nextVersion() {
+        return new ScoreBoardSnapshot(version + 1, summary, currentMatches, matchesByTeam);
+    }
+
+    /**
+     * @param after    Cursor of the previous page, or null for the first page.
+     * @param pageSize Maximum number of matches to return.
+     * @return Page of the summary following the cursor, found by descending the summary tree.
+     */
+    public SummaryPage summaryPage(SummaryPosition after, int pageSize) {
+        int from = after == null ? 0 : summary.countWhile(match -> SummaryPosition.of(match).compareTo(after) <= 0);
+        int to = (int) Math.min((long) from + pageSize, summary.size());
+        if (from >= to) {
+            return SummaryPage.EMPTY;
+        }
+        return new SummaryPage(summary.subList(from, to), SummaryPosition.of(summary.get(to - 1)));
+    }
+
+    private record TeamEntry(int teamId, Match match) {
+    }
+}
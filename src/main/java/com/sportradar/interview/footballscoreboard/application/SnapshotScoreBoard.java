@@ -0,0 +1,141 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Publishes a new immutable {@link ScoreBoardSnapshot} after every mutation. Writes are serialized and
+ * must all go through this board; reads only dereference the current snapshot and never block.
+ */
+public class SnapshotScoreBoard implements ScoreBoard {
+
+    private final ScoreBoard delegate;
+    private final AtomicReference<ScoreBoardSnapshot> snapshot;
+    // live matches of the delegate, to find the entry a finish removes; guarded by this
+    private final Map<MatchKey, Match> liveMatches;
+    private final Map<Long, Match> liveMatchesById;
+
+    public SnapshotScoreBoard(ScoreBoard delegate) {
+        this.delegate = delegate;
+        this.liveMatches = new HashMap<>();
+        this.liveMatchesById = new HashMap<>();
+        List<Match> matches = delegate.getCurrentMatches();
+        matches.forEach(this::track);
+        this.snapshot = new AtomicReference<>(ScoreBoardSnapshot.of(0, matches));
+    }
+
+    /**
+     * @return The most recently published snapshot.
+     */
+    public ScoreBoardSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    @Override
+    public synchronized Match startGame(String homeTeam, String awayTeam) {
+        Match match = delegate.startGame(homeTeam, awayTeam);
+        track(match);
+        snapshot.set(snapshot.get().withMatch(match));
+        return match;
+    }
+
+    @Override
+    public synchronized void finishGame(String homeTeam, String awayTeam) {
+        MatchKey key = delegate.teams().findKey(homeTeam, awayTeam);
+        delegate.finishGame(homeTeam, awayTeam);
+        publishFinished(untrack(liveMatches.get(key)));
+    }
+
+    @Override
+    public synchronized void finishGame(long matchId) {
+        delegate.finishGame(matchId);
+        publishFinished(untrack(liveMatchesById.get(matchId)));
+    }
+
+    @Override
+    public synchronized Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        Match match = delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        snapshot.set(snapshot.get().withMatch(match));
+        return match;
+    }
+
+    @Override
+    public synchronized Match updateScore(long matchId, int homeScore, int awayScore) {
+        Match match = delegate.updateScore(matchId, homeScore, awayScore);
+        snapshot.set(snapshot.get().withMatch(match));
+        return match;
+    }
+
+    @Override
+    public synchronized List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+        List<Match> results = delegate.applyBatch(commands);
+        for (int i = 0; i < commands.size(); i++) {
+            if (commands.get(i) instanceof ScoreBoardCommand.FinishGame) {
+                untrack(results.get(i));
+            } else {
+                track(results.get(i));
+            }
+        }
+        snapshot.set(snapshot.get().withBatch(commands, results));
+        return results;
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return snapshot.get().summary();
+    }
+
+    @Override
+    public List<Match> getSummary(int limit) {
+        return getSummary(null, limit).matches();
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition afterCursor, int pageSize) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("Summary limit can not be negative.");
+        }
+        return snapshot.get().summaryPage(afterCursor, pageSize);
+    }
+
+    @Override
+    public List<Match> getCurrentMatches() {
+        return snapshot.get().currentMatches();
+    }
+
+    @Override
+    public List<Match> getMatchesOfTeam(String team) {
+        return snapshot.get().matchesOf(delegate.teams().findId(team));
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+
+    private void track(Match match) {
+        liveMatches.put(match.getKey(), match);
+        liveMatchesById.put(match.getId(), match);
+    }
+
+    private Match untrack(Match match) {
+        if (match != null) {
+            liveMatches.remove(match.getKey());
+            liveMatchesById.remove(match.getId());
+        }
+        return match;
+    }
+
+    private void publishFinished(Match finished) {
+        if (finished != null) {
+            snapshot.set(snapshot.get().withoutMatch(finished));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+
+public class SortingSummaryEngine implements SummaryEngine {
+
+    private static final Comparator<Map.Entry<SummaryPosition, Match>> ENTRY_ORDER = Map.Entry.comparingByKey();
+
+    private final MatchRepository matchRepository;
+
+    public SortingSummaryEngine(MatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    @Override
+    public void onStarted(Match match) {
+    }
+
+    @Override
+    public void onScoreUpdated(Match match, int previousTotalScore) {
+    }
+
+    @Override
+    public void onFinished(MatchKey key) {
+    }
+
+    @Override
+    public SummaryPage getSummary(SummaryPosition after, int limit) {
+        return summaryOf(matchRepository.findAll(), after, limit);
+    }
+
+    static SummaryPage summaryOf(List<Match> matches, SummaryPosition after, int limit) {
+        if (limit == 0 || matches.isEmpty()) {
+            return SummaryPage.EMPTY;
+        }
+        List<Map.Entry<SummaryPosition, Match>> entries = limit >= matches.size()
+                ? sortAll(matches, after)
+                : selectTop(matches, after, limit);
+        return toPage(entries);
+    }
+
+    private static List<Map.Entry<SummaryPosition, Match>> sortAll(List<Match> matches, SummaryPosition after) {
+        List<Map.Entry<SummaryPosition, Match>> entries = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            SummaryPosition position = SummaryPosition.of(match);
+            if (after == null || position.compareTo(after) > 0) {
+                entries.add(Map.entry(position, match));
+            }
+        }
+        entries.sort(ENTRY_ORDER);
+        return entries;
+    }
+
+    private static List<Map.Entry<SummaryPosition, Match>> selectTop(List<Match> matches, SummaryPosition after, int limit) {
+        PriorityQueue<Map.Entry<SummaryPosition, Match>> lowestFirst = new PriorityQueue<>(limit + 1, ENTRY_ORDER.reversed());
+        for (Match match : matches) {
+            SummaryPosition position = SummaryPosition.of(match);
+            if (after != null && position.compareTo(after) <= 0) {
+                continue;
+            }
+            if (lowestFirst.size() < limit) {
+                lowestFirst.add(Map.entry(position, match));
+            } else if (position.compareTo(lowestFirst.peek().getKey()) < 0) {
+                lowestFirst.poll();
+                lowestFirst.add(Map.entry(position, match));
+            }
+        }
+        List<Map.Entry<SummaryPosition, Match>> entries = new ArrayList<>(lowestFirst);
+        entries.sort(ENTRY_ORDER);
+        return entries;
+    }
+
+    private static SummaryPage toPage(List<Map.Entry<SummaryPosition, Match>> entries) {
+        if (entries.isEmpty()) {
+            return SummaryPage.EMPTY;
+        }
+        List<Match> page = new ArrayList<>(entries.size());
+        for (Map.Entry<SummaryPosition, Match> entry : entries) {
+            page.add(entry.getValue());
+        }
+        return new SummaryPage(Collections.unmodifiableList(page), entries.get(entries.size() - 1).getKey());
+    }
+}
@@ -0,0 +1,75 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Fixed set of locks shared by matches whose keys hash to the same stripe. Operations on different
+ * fixtures usually take different stripes and run in parallel.
+ */
+final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+
+    StripedLocks(int stripes) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Number of stripes must be a positive power of two.");
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    ReentrantLock lockFor(MatchKey key) {
+        return locks[stripeOf(key.hashCode())];
+    }
+
+    ReentrantLock lockFor(int teamId1, int teamId2) {
+        return locks[stripeOf(MatchKey.hashOf(teamId1, teamId2))];
+    }
+
+    /**
+     * Locks the stripes of all keys in ascending stripe order, so concurrent callers can not deadlock.
+     *
+     * @return Stripes to pass to {@link #unlockAll(BitSet)}.
+     */
+    BitSet lockAll(Collection<MatchKey> keys) {
+        BitSet stripes = new BitSet(locks.length);
+        for (MatchKey key : keys) {
+            stripes.set(stripeOf(key.hashCode()));
+        }
+        for (int stripe = stripes.nextSetBit(0); stripe >= 0; stripe = stripes.nextSetBit(stripe + 1)) {
+            locks[stripe].lock();
+        }
+        return stripes;
+    }
+
+    /**
+     * Locks every stripe in ascending order, to exclude all writers at once.
+     *
+     * @return Stripes to pass to {@link #unlockAll(BitSet)}.
+     */
+    BitSet lockAll() {
+        BitSet stripes = new BitSet(locks.length);
+        stripes.set(0, locks.length);
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        return stripes;
+    }
+
+    void unlockAll(BitSet stripes) {
+        for (int stripe = stripes.nextSetBit(0); stripe >= 0; stripe = stripes.nextSetBit(stripe + 1)) {
+            locks[stripe].unlock();
+        }
+    }
+
+    private int stripeOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+}
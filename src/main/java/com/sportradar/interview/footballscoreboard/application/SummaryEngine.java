@@ -0,0 +1,31 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+
+public interface SummaryEngine {
+
+    /**
+     * @param match The match that has just been started.
+     */
+    void onStarted(Match match);
+
+    /**
+     * @param match              The match after its score has been updated, possibly a different instance than
+     *                           the one passed before, as some repositories hand out detached copies.
+     * @param previousTotalScore Total score of the match before the update.
+     */
+    void onScoreUpdated(Match match, int previousTotalScore);
+
+    /**
+     * @param key Key of the match that has just been finished.
+     */
+    void onFinished(MatchKey key);
+
+    /**
+     * @param after Position to continue after, or null to start from the top of the summary.
+     * @param limit Maximum number of matches to return.
+     * @return Page of at most limit matches in summary order.
+     */
+    SummaryPage getSummary(SummaryPosition after, int limit);
+}
@@ -0,0 +1,16 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+
+import java.util.List;
+
+
+/**
+ * @param matches    Unmodifiable list of matches in summary order.
+ * @param nextCursor Position of the last match of this page, to request the following page with;
+ *                   null if the page is empty. A page shorter than requested is the last one.
+ */
+public record SummaryPage(List<Match> matches, SummaryPosition nextCursor) {
+
+    static final SummaryPage EMPTY = new SummaryPage(List.of(), null);
+}
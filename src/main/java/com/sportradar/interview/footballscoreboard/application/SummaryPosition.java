@@ -0,0 +1,36 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+
+import java.util.Comparator;
+
+
+public record SummaryPosition(int totalScore, long startSequence, MatchKey key) implements Comparable<SummaryPosition> {
+
+    /**
+     * Summary order: highest total score first, then most recently started, then by team pair.
+     */
+    public static final Comparator<Match> MATCH_ORDER = Comparator.comparingInt(Match::getTotalScore)
+            .thenComparingLong(Match::getStartSequence)
+            .reversed()
+            .thenComparing(Match::getKey);
+
+    /**
+     * @param match The match to locate.
+     * @return Position of the match in the summary given its current score.
+     */
+    public static SummaryPosition of(Match match) {
+        return new SummaryPosition(match.getTotalScore(), match.getStartSequence(), match.getKey());
+    }
+
+    @Override
+    public int compareTo(SummaryPosition other) {
+        int result = Integer.compare(other.totalScore, totalScore);
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compare(other.startSequence, startSequence);
+        return result != 0 ? result : key.compareTo(other.key);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+import java.time.Instant;
+
+/**
+ * Final result of a finished match.
+ *
+ * @param homeTeam   Home team name.
+ * @param awayTeam   Away team name.
+ * @param homeScore  Final home team score.
+ * @param awayScore  Final away team score.
+ * @param startTime  When the match was started.
+ * @param finishTime When the match was finished.
+ */
+public record ArchivedMatch(String homeTeam, String awayTeam, int homeScore, int awayScore, Instant startTime, Instant finishTime) {
+
+    @Override
+    public String toString() {
+        return String.format("%s %d - %s %d", homeTeam, homeScore, awayTeam, awayScore);
+    }
+}
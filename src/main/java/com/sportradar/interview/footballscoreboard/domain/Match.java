@@ -1,90 +1,235 @@
 package com.sportradar.interview.footballscoreboard.domain;
 
 import java.time.Instant;
-import java.util.Objects;
 
 
 public class Match {
 
-    private final Instant startTime;
+    public static final long UNASSIGNED_ID = -1L;
+
+    private final TeamDictionary teams;
     private final String homeTeam;
     private final String awayTeam;
-    private int homeScore;
-    private int awayScore;
-
+    private final Instant startTime;
+    private final long startSequence;
+    private final int homeTeamId;
+    private final int awayTeamId;
+    private final MatchKey key;
+    // home score in the high and away score in the low 32 bits, so a score changes in one volatile write
+    private volatile long score;
+    private volatile long id = UNASSIGNED_ID;
+    private final boolean readOnly;
+
+    /**
+     * Creates a match whose teams are resolved in the {@link TeamDictionary#defaultDictionary() default dictionary}.
+     */
     public Match(String homeTeam, String awayTeam) {
+        this(TeamDictionary.defaultDictionary(), homeTeam, awayTeam);
+    }
+
+    public Match(TeamDictionary teams, String homeTeam, String awayTeam) {
+        this(teams, homeTeam, awayTeam, 0, 0, Instant.now());
+    }
+
+    public Match(TeamDictionary teams, String homeTeam, String awayTeam, int homeScore, int awayScore,
+                 Instant startTime) {
+        this(teams, homeTeam, awayTeam, homeScore, awayScore, startTime, StartSequence.next());
+    }
+
+    /**
+     * Restores a match with the start sequence it was given when first started.
+     *
+     * @param teams         Dictionary interning the team names, the one of the repository the match is saved to.
+     * @param startSequence Start sequence of the match, see {@link StartSequence}.
+     */
+    public Match(TeamDictionary teams, String homeTeam, String awayTeam, int homeScore, int awayScore,
+                 Instant startTime, long startSequence) {
         if (homeTeam == null || homeTeam.trim().isEmpty()) {
             throw new IllegalArgumentException("Home team name can not be null or empty.");
         }
         if (awayTeam == null || awayTeam.trim().isEmpty()) {
             throw new IllegalArgumentException("Away team name can not be null or empty.");
         }
-        if (homeTeam.equalsIgnoreCase(awayTeam)) {
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative.");
+        }
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time can not be null.");
+        }
+        // checked on the names, so a rejected match registers neither of them
+        if (TeamDictionary.canonicalNameOf(homeTeam).equals(TeamDictionary.canonicalNameOf(awayTeam))) {
             throw new IllegalArgumentException("Home team and away team can not be the same.");
         }
+        int homeSpellingId = teams.spellingIdOf(homeTeam);
+        int awaySpellingId = teams.spellingIdOf(awayTeam);
+        int homeId = teams.teamIdOf(homeSpellingId);
+        int awayId = teams.teamIdOf(awaySpellingId);
+
+        this.teams = teams;
+        this.homeTeam = teams.nameOf(homeSpellingId);
+        this.awayTeam = teams.nameOf(awaySpellingId);
+        this.startTime = startTime;
+        this.startSequence = startSequence;
+        StartSequence.advancePast(startSequence);
+        this.homeTeamId = homeId;
+        this.awayTeamId = awayId;
+        this.key = MatchKey.of(homeId, awayId);
+        this.score = packScore(homeScore, awayScore);
+        this.readOnly = false;
+    }
 
-        this.startTime = Instant.now();
-        this.homeTeam = homeTeam.trim();
-        this.awayTeam = awayTeam.trim();
-        this.homeScore = 0;
-        this.awayScore = 0;
+    private Match(Match source, boolean readOnly) {
+        this.teams = source.teams;
+        this.homeTeam = source.homeTeam;
+        this.awayTeam = source.awayTeam;
+        this.startTime = source.startTime;
+        this.startSequence = source.startSequence;
+        this.homeTeamId = source.homeTeamId;
+        this.awayTeamId = source.awayTeamId;
+        this.key = source.key;
+        this.score = source.score;
+        this.id = source.id;
+        this.readOnly = readOnly;
     }
 
+    /**
+     * @return Handle assigned by the repository holding this match, or UNASSIGNED_ID.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @param id Handle under which a repository stores this match.
+     */
+    public void assignId(long id) {
+        checkWritable();
+        this.id = id;
+    }
+
+    /**
+     * @return The home team as spelled when the match was started, trimmed.
+     */
     public String getHomeTeam() {
         return homeTeam;
     }
 
+    /**
+     * @return The away team as spelled when the match was started, trimmed.
+     */
     public String getAwayTeam() {
         return awayTeam;
     }
 
+    /**
+     * @return Dictionary the team ids of this match come from.
+     */
+    public TeamDictionary getTeams() {
+        return teams;
+    }
+
+    public int getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public int getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public MatchKey getKey() {
+        return key;
+    }
+
     public int getHomeScore() {
-        return homeScore;
+        return homeScoreOf(score);
     }
 
     public int getAwayScore() {
-        return awayScore;
+        return awayScoreOf(score);
     }
 
     public Instant getStartTime() {
         return startTime;
     }
 
+    /**
+     * @return Position of the match in start order; a later started match has a greater sequence.
+     */
+    public long getStartSequence() {
+        return startSequence;
+    }
+
     public void updateScore(int newHomeScore, int newAwayScore) {
         if (newHomeScore < 0 || newAwayScore < 0) {
             throw new IllegalArgumentException("Scores cannot be negative.");
         }
-        this.homeScore = newHomeScore;
-        this.awayScore = newAwayScore;
+        checkWritable();
+        this.score = packScore(newHomeScore, newAwayScore);
     }
 
     public int getTotalScore() {
-        return homeScore + awayScore;
+        long current = score;
+        return homeScoreOf(current) + awayScoreOf(current);
+    }
+
+    /**
+     * @return A detached Match with the same teams, score, start time, start sequence and id.
+     */
+    public Match copy() {
+        return new Match(this, false);
+    }
+
+    /**
+     * @return A detached copy like {@link #copy()} whose score and id can not be changed.
+     */
+    public Match readOnlyCopy() {
+        return readOnly ? this : new Match(this, true);
+    }
+
+    /**
+     * @return true if score and id of this match can not be changed.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
     }
 
+    /**
+     * Matches are equal if they are between the same teams of the same dictionary, whatever the spellings.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Match match = (Match) o;
-        return (homeTeam.equalsIgnoreCase(match.homeTeam) && awayTeam.equalsIgnoreCase(match.awayTeam)) ||
-                (homeTeam.equalsIgnoreCase(match.awayTeam) && awayTeam.equalsIgnoreCase(match.homeTeam));
+        return teams == match.teams && key.equals(match.key);
     }
 
     @Override
     public int hashCode() {
-        String team1 = homeTeam.toLowerCase();
-        String team2 = awayTeam.toLowerCase();
-        if (team1.compareTo(team2) > 0) {
-            String temp = team1;
-            team1 = team2;
-            team2 = temp;
-        }
-        return Objects.hash(team1, team2);
+        return key.hashCode();
     }
 
     @Override
     public String toString() {
-        return String.format("%s %d - %s %d", homeTeam, homeScore, awayTeam, awayScore);
+        long current = score;
+        return String.format("%s %d - %s %d", getHomeTeam(), homeScoreOf(current), getAwayTeam(), awayScoreOf(current));
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Read-only match can not be changed.");
+        }
+    }
+
+    private static long packScore(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | awayScore;
+    }
+
+    private static int homeScoreOf(long score) {
+        return (int) (score >>> 32);
+    }
+
+    private static int awayScoreOf(long score) {
+        return (int) score;
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MatchArchive {
+
+    /**
+     * @param match The match that has just been finished; it is not referenced after the call.
+     */
+    void archive(@NotNull Match match);
+
+    /**
+     * @param team Team name in any spelling.
+     * @return Retained results of the team, in the order the matches finished.
+     */
+    List<ArchivedMatch> findByTeam(@NotNull String team);
+
+    /**
+     * @param from First finish time to include.
+     * @param to   First finish time to exclude.
+     * @return Retained results of matches finished in the window, in the order they finished.
+     */
+    List<ArchivedMatch> findFinishedBetween(@NotNull Instant from, @NotNull Instant to);
+
+    /**
+     * @return Number of retained results.
+     */
+    int size();
+}
@@ -0,0 +1,45 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+
+/**
+ * Layout of match ids shared by repositories. Bits 56-62 of an id carry the namespace of the repository that
+ * issued it, so a board spreading matches over several repositories can route an id without looking it up.
+ * The lower 56 bits are local to the repository.
+ */
+public final class MatchIds {
+
+    public static final int MAX_NAMESPACES = 128;
+    public static final long LOCAL_ID_MASK = (1L << 56) - 1;
+
+    private static final int NAMESPACE_SHIFT = 56;
+
+    private MatchIds() {
+    }
+
+    /**
+     * @param namespace Namespace of the issuing repository, between 0 and MAX_NAMESPACES - 1.
+     * @param localId   Id unique within the repository, at most LOCAL_ID_MASK.
+     * @return The global id.
+     */
+    public static long of(int namespace, long localId) {
+        return ((long) namespace << NAMESPACE_SHIFT) | (localId & LOCAL_ID_MASK);
+    }
+
+    /**
+     * @param id A match id.
+     * @return Namespace of the repository that issued it.
+     */
+    public static int namespaceOf(long id) {
+        return (int) (id >>> NAMESPACE_SHIFT);
+    }
+
+    /**
+     * @param namespace Namespace to check.
+     * @throws IllegalArgumentException if the namespace is out of range.
+     */
+    public static void checkNamespace(int namespace) {
+        if (namespace < 0 || namespace >= MAX_NAMESPACES) {
+            throw new IllegalArgumentException("Id namespace must be between 0 and " + (MAX_NAMESPACES - 1) + ".");
+        }
+    }
+}
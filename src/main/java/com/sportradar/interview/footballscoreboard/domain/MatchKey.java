@@ -0,0 +1,38 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+
+/**
+ * Identifies a match by the ids its teams have in a {@link TeamDictionary}; {@link TeamDictionary#findKey} builds it
+ * from team names.
+ */
+public record MatchKey(int firstTeamId, int secondTeamId) implements Comparable<MatchKey> {
+
+    /**
+     * @param teamId1 One team id.
+     * @param teamId2 The other team id.
+     * @return Key identifying the pair regardless of home/away order.
+     */
+    public static MatchKey of(int teamId1, int teamId2) {
+        return teamId1 <= teamId2 ? new MatchKey(teamId1, teamId2) : new MatchKey(teamId2, teamId1);
+    }
+
+    /**
+     * @param teamId1 One team id.
+     * @param teamId2 The other team id.
+     * @return The hash code of the key for the pair, computed without creating it.
+     */
+    public static int hashOf(int teamId1, int teamId2) {
+        return Math.min(teamId1, teamId2) * 0x9E3779B1 + Math.max(teamId1, teamId2);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashOf(firstTeamId, secondTeamId);
+    }
+
+    @Override
+    public int compareTo(MatchKey other) {
+        int result = Integer.compare(firstTeamId, other.firstTeamId);
+        return result != 0 ? result : Integer.compare(secondTeamId, other.secondTeamId);
+    }
+}
@@ -8,11 +8,33 @@ import java.util.Optional;
 public interface MatchRepository {
 
     /**
-     * @param match The match to save.
+     * @return Dictionary the repository resolves team names with. Matches passed to it must be created with it.
+     */
+    TeamDictionary teams();
+
+    /**
+     * @param match The match to save. A newly stored match is assigned an id.
      * @return The saved or updated Match.
      */
     Match save(@NotNull Match match);
 
+    /**
+     * Atomically stores the match unless one between the same teams is already stored.
+     *
+     * @param match The match to save. A stored match is assigned an id.
+     * @return true if saved, false if a match between the same teams already exists.
+     */
+    boolean saveIfAbsent(@NotNull Match match);
+
+    /**
+     * Stores a deleted match again under the id it was assigned before, undoing the delete. A repository that
+     * has handed the storage behind that id to another match meanwhile assigns a new id instead.
+     *
+     * @param match The deleted match.
+     * @return true if restored, false if a match between the same teams is stored meanwhile.
+     */
+    boolean restore(@NotNull Match match);
+
     /**
      * @param homeTeam The home team name.
      * @param awayTeam The away team name.
@@ -27,10 +49,68 @@ public interface MatchRepository {
      */
     Optional<Match> findByTeams(@NotNull String team1, @NotNull String team2);
 
+    /**
+     * Same lookup as findByTeams, without wrapping the result, for allocation-sensitive callers.
+     *
+     * @param team1 One team name.
+     * @param team2 The other team name.
+     * @return The Match, or null if not found.
+     */
+    default Match getByTeams(@NotNull String team1, @NotNull String team2) {
+        return findByTeams(team1, team2).orElse(null);
+    }
+
+    /**
+     * @param team Team name in any spelling.
+     * @return Live matches the team is playing in, home or away.
+     */
+    default List<Match> findByTeam(@NotNull String team) {
+        int teamId = teams().findId(team);
+        return findAll().stream()
+                .filter(match -> match.getHomeTeamId() == teamId || match.getAwayTeamId() == teamId)
+                .toList();
+    }
+
+    /**
+     * @param id Id assigned to the match when it was first saved.
+     * @return Optional containing the Match, or empty.
+     */
+    default Optional<Match> findById(long id) {
+        return findAll().stream()
+                .filter(match -> match.getId() == id)
+                .findFirst();
+    }
+
+    /**
+     * Same lookup as findById, without wrapping the result, for allocation-sensitive callers.
+     *
+     * @param id Id assigned to the match when it was first saved.
+     * @return The Match, or null if not found.
+     */
+    default Match getById(long id) {
+        return findById(id).orElse(null);
+    }
+
+    /**
+     * @param id Id assigned to the match when it was first saved.
+     * @return true if deleted, false otherwise.
+     */
+    default boolean delete(long id) {
+        Match match = getById(id);
+        return match != null && delete(match.getHomeTeam(), match.getAwayTeam());
+    }
+
     /**
      * Retrieves all matches from the repository.
      *
-     * @return A list of all matches.
+     * @return A list of all matches, in the order they were started (by start sequence).
      */
     List<Match> findAll();
+
+    /**
+     * @return Number of matches in the repository, without copying them.
+     */
+    default int count() {
+        return findAll().size();
+    }
 }
\ No newline at end of file
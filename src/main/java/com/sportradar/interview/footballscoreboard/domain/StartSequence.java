@@ -0,0 +1,37 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Process-wide source of strictly increasing start sequence numbers. A number is the current
+ * {@link System#nanoTime()} unless that would not exceed the last number handed out, in which case it is the
+ * last number plus one; matches started in the same clock tick therefore still get distinct, ordered numbers,
+ * and wall-clock adjustments can not reorder them.
+ */
+public final class StartSequence {
+
+    private static final AtomicLong LAST = new AtomicLong(Long.MIN_VALUE);
+
+    private StartSequence() {
+    }
+
+    /**
+     * @return A number greater than every number returned or advanced past before.
+     */
+    public static long next() {
+        return LAST.accumulateAndGet(System.nanoTime(), (last, now) -> Math.max(last + 1, now));
+    }
+
+    /**
+     * Makes sure matches started from now on sort as more recent than a restored match.
+     *
+     * @param sequence Start sequence of a match restored from persistent storage.
+     */
+    public static void advancePast(long sequence) {
+        // a plain read first, so copies and restores of older matches do not contend on the counter
+        if (LAST.get() < sequence) {
+            LAST.accumulateAndGet(sequence, Math::max);
+        }
+    }
+}
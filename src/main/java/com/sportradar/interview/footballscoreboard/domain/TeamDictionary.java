@@ -0,0 +1,177 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Interns team names into small int ids. Every distinct trimmed spelling gets a spelling id, and spellings
+ * differing only in case or surrounding whitespace belong to one team, whose id is the spelling id of its first
+ * spelling. Each scoreboard or repository owns its dictionary, unless it is created without one and shares the
+ * {@link #defaultDictionary() default dictionary}. A dictionary only grows; ids are never reused.
+ * Lookups are lock-free; registering a spelling is serialized.
+ */
+public class TeamDictionary {
+
+    public static final int UNKNOWN_ID = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final TeamDictionary DEFAULT_DICTIONARY = new TeamDictionary();
+
+    private final Map<String, Integer> idsBySpelling;
+    private final Map<String, Integer> idsByCanonicalName;
+    private volatile String[] spellings;
+    private volatile int[] teamIds;
+    private int spellingCount;
+    private int teamCount;
+
+    public TeamDictionary() {
+        this.idsBySpelling = new ConcurrentHashMap<>();
+        this.idsByCanonicalName = new ConcurrentHashMap<>();
+        this.spellings = new String[INITIAL_CAPACITY];
+        this.teamIds = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return Dictionary shared by matches and repositories created without one, so they work together as they
+     * did before dictionaries were per board.
+     */
+    public static TeamDictionary defaultDictionary() {
+        return DEFAULT_DICTIONARY;
+    }
+
+    /**
+     * @param name Team name in any spelling.
+     * @return Id of the team, registering the spelling on first use.
+     * @throws IllegalArgumentException if name is null or blank.
+     */
+    public int idOf(String name) {
+        return teamIdOf(spellingIdOf(name));
+    }
+
+    /**
+     * @param name Team name in any spelling.
+     * @return Id of the trimmed spelling, registering it on first use.
+     * @throws IllegalArgumentException if name is null or blank.
+     */
+    public int spellingIdOf(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Team name can not be null or empty.");
+        }
+        Integer id = idsBySpelling.get(name);
+        if (id == null) {
+            id = idsBySpelling.get(name.trim());
+        }
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * Looks a team up without registering it.
+     *
+     * @param name Team name in any spelling.
+     * @return Id of the team, or UNKNOWN_ID if no spelling of it has been registered.
+     */
+    public int findId(String name) {
+        if (name == null) {
+            return UNKNOWN_ID;
+        }
+        Integer id = idsBySpelling.get(name);
+        if (id != null) {
+            return teamIds[id];
+        }
+        id = idsByCanonicalName.get(name.trim().toLowerCase(Locale.ROOT));
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    /**
+     * Looks a match key up without registering either team.
+     *
+     * @param team1 One team name in any spelling.
+     * @param team2 The other team name in any spelling.
+     * @return Key of the pair, or null if either team has never been registered.
+     */
+    public MatchKey findKey(String team1, String team2) {
+        int teamId1 = findId(team1);
+        int teamId2 = findId(team2);
+        if (teamId1 == UNKNOWN_ID || teamId2 == UNKNOWN_ID) {
+            return null;
+        }
+        return MatchKey.of(teamId1, teamId2);
+    }
+
+    /**
+     * @param spellingId Spelling id, or a team id for the first spelling of the team.
+     * @return The trimmed spelling.
+     * @throws IllegalArgumentException if id is unknown.
+     */
+    public String nameOf(int spellingId) {
+        String[] current = spellings;
+        if (spellingId < 0 || spellingId >= current.length || current[spellingId] == null) {
+            throw new IllegalArgumentException("Unknown team id " + spellingId + ".");
+        }
+        return current[spellingId];
+    }
+
+    /**
+     * @param spellingId Spelling id.
+     * @return Id of the team spelled this way.
+     * @throws IllegalArgumentException if id is unknown.
+     */
+    public int teamIdOf(int spellingId) {
+        nameOf(spellingId);
+        return teamIds[spellingId];
+    }
+
+    /**
+     * @return Number of registered teams.
+     */
+    public synchronized int size() {
+        return teamCount;
+    }
+
+    /**
+     * @return Number of registered spellings, an upper bound of every spelling and team id.
+     */
+    public synchronized int spellingCount() {
+        return spellingCount;
+    }
+
+    /**
+     * @param name Team name in any spelling.
+     * @return The trimmed, case-folded name all spellings of the team share.
+     * @throws IllegalArgumentException if name is null or blank.
+     */
+    static String canonicalNameOf(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Team name can not be null or empty.");
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized int register(String name) {
+        String spelling = name.trim();
+        Integer existing = idsBySpelling.get(spelling);
+        if (existing != null) {
+            return existing;
+        }
+        String canonicalName = canonicalNameOf(spelling);
+        int spellingId = spellingCount;
+        Integer teamId = idsByCanonicalName.get(canonicalName);
+        if (spellingId == spellings.length) {
+            spellings = Arrays.copyOf(spellings, spellingId * 2);
+            teamIds = Arrays.copyOf(teamIds, spellingId * 2);
+        }
+        spellings[spellingId] = spelling;
+        teamIds[spellingId] = teamId != null ? teamId : spellingId;
+        spellingCount++;
+        if (teamId == null) {
+            idsByCanonicalName.put(canonicalName, spellingId);
+            teamCount++;
+        }
+        // published last, so a reader finding the id also finds the array entries
+        idsBySpelling.put(spelling, spellingId);
+        return spellingId;
+    }
+}
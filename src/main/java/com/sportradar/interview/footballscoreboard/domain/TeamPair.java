@@ -0,0 +1,30 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+
+/**
+ * Identifies a match by the canonical names of its teams, ordered. Unlike a {@link MatchKey} it needs no
+ * {@link TeamDictionary}, so it can key work on matches whose teams are not registered yet.
+ */
+public record TeamPair(String firstTeam, String secondTeam) {
+
+    /**
+     * @param team1 One team name.
+     * @param team2 The other team name.
+     * @return Pair identifying the match regardless of case, surrounding whitespace and home/away order.
+     * @throws IllegalArgumentException if either name is null or blank.
+     */
+    public static TeamPair of(String team1, String team2) {
+        String canonicalName1 = TeamDictionary.canonicalNameOf(team1);
+        String canonicalName2 = TeamDictionary.canonicalNameOf(team2);
+        return canonicalName1.compareTo(canonicalName2) <= 0
+                ? new TeamPair(canonicalName1, canonicalName2)
+                : new TeamPair(canonicalName2, canonicalName1);
+    }
+
+    /**
+     * @return true if both names belong to the same team.
+     */
+    public boolean isSameTeam() {
+        return firstTeam.equals(secondTeam);
+    }
+}
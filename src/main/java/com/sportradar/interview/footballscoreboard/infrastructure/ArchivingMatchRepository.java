@@ -0,0 +1,99 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchArchive;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Moves every match deleted from the wrapped repository, i.e. every finished match, into a {@link MatchArchive}.
+ */
+public class ArchivingMatchRepository implements MatchRepository {
+
+    private final MatchRepository delegate;
+    private final MatchArchive archive;
+
+    public ArchivingMatchRepository(MatchRepository delegate, MatchArchive archive) {
+        this.delegate = delegate;
+        this.archive = archive;
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+
+    @Override
+    public Match save(Match match) {
+        return delegate.save(match);
+    }
+
+    @Override
+    public boolean saveIfAbsent(Match match) {
+        return delegate.saveIfAbsent(match);
+    }
+
+    @Override
+    public boolean restore(Match match) {
+        return delegate.restore(match);
+    }
+
+    @Override
+    public boolean delete(String homeTeam, String awayTeam) {
+        Match match = delegate.getByTeams(homeTeam, awayTeam);
+        if (match == null || !delegate.delete(homeTeam, awayTeam)) {
+            return false;
+        }
+        archive.archive(match);
+        return true;
+    }
+
+    @Override
+    public boolean delete(long id) {
+        Match match = delegate.getById(id);
+        if (match == null || !delegate.delete(id)) {
+            return false;
+        }
+        archive.archive(match);
+        return true;
+    }
+
+    @Override
+    public Optional<Match> findByTeams(String team1, String team2) {
+        return delegate.findByTeams(team1, team2);
+    }
+
+    @Override
+    public Match getByTeams(String team1, String team2) {
+        return delegate.getByTeams(team1, team2);
+    }
+
+    @Override
+    public List<Match> findByTeam(String team) {
+        return delegate.findByTeam(team);
+    }
+
+    @Override
+    public Optional<Match> findById(long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Match getById(long id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public List<Match> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+}
@@ -0,0 +1,299 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.ArchivedMatch;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchArchive;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * Keeps finished matches in primitive columns instead of Match objects, in a ring that holds at most
+ * maxResults entries; a result takes 32 bytes of columns and 16 bytes of per-team index. Results older than the
+ * retention period or pushed out of the ring are evicted. Entries are stored in finish order, so time windows are
+ * found by binary search, and every team keeps a list of its entries for per-team queries. Team names are interned
+ * into a dictionary of the archive, which keeps the spelling every match was started with.
+ */
+public class ColumnarMatchArchive implements MatchArchive {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_POSTINGS = 4;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int maxResults;
+    private final long retentionNanos;
+    private final Clock clock;
+    private final TeamDictionary teams;
+    private final ReadWriteLock lock;
+
+    // ring buffer columns indexed by sequence % capacity
+    private int[] homeSpellingIds;
+    private int[] awaySpellingIds;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] startNanos;
+    private long[] finishNanos;
+    // sequence numbers of retained entries are firstSequence until nextSequence - 1
+    private long firstSequence;
+    private long nextSequence;
+    private long evicted;
+    // ascending sequence numbers of the entries of each team, by team id
+    private long[][] postings;
+    private int[] postingSizes;
+
+    /**
+     * @param maxResults Maximum number of retained results.
+     * @param retention  How long a result is retained after the match finished.
+     */
+    public ColumnarMatchArchive(int maxResults, Duration retention) {
+        this(maxResults, retention, Clock.systemUTC());
+    }
+
+    public ColumnarMatchArchive(int maxResults, Duration retention, Clock clock) {
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("Archive must retain at least one result.");
+        }
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Retention must be positive.");
+        }
+        this.maxResults = maxResults;
+        this.retentionNanos = saturatedNanos(retention);
+        this.clock = clock;
+        this.teams = new TeamDictionary();
+        this.lock = new ReentrantReadWriteLock();
+        allocateColumns(Math.min(maxResults, INITIAL_CAPACITY));
+        this.postings = new long[0][];
+        this.postingSizes = new int[0];
+    }
+
+    @Override
+    public void archive(Match match) {
+        long now = nanosOf(clock.instant());
+        int homeSpellingId = teams.spellingIdOf(match.getHomeTeam());
+        int awaySpellingId = teams.spellingIdOf(match.getAwayTeam());
+        lock.writeLock().lock();
+        try {
+            evictOlderThan(now - retentionNanos);
+            if (nextSequence - firstSequence == maxResults) {
+                evictFirst();
+            }
+            ensureCapacity((int) (nextSequence - firstSequence) + 1);
+            // finish times never go backwards, which keeps the columns sorted by finish time
+            long finish = nextSequence == firstSequence ? now : Math.max(now, finishNanos[slot(nextSequence - 1)]);
+            int slot = slot(nextSequence);
+            homeSpellingIds[slot] = homeSpellingId;
+            awaySpellingIds[slot] = awaySpellingId;
+            homeScores[slot] = match.getHomeScore();
+            awayScores[slot] = match.getAwayScore();
+            startNanos[slot] = nanosOf(match.getStartTime());
+            finishNanos[slot] = finish;
+            addPosting(teams.teamIdOf(homeSpellingId), nextSequence);
+            addPosting(teams.teamIdOf(awaySpellingId), nextSequence);
+            nextSequence++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ArchivedMatch> findByTeam(String team) {
+        int teamId = teams.findId(team);
+        lock.readLock().lock();
+        try {
+            if (teamId == TeamDictionary.UNKNOWN_ID || teamId >= postingSizes.length) {
+                return List.of();
+            }
+            long cutoff = nanosOf(clock.instant()) - retentionNanos;
+            long[] sequences = postings[teamId];
+            List<ArchivedMatch> results = new ArrayList<>();
+            for (int i = 0; i < postingSizes[teamId]; i++) {
+                long sequence = sequences[i];
+                if (sequence >= firstSequence && finishNanos[slot(sequence)] >= cutoff) {
+                    results.add(materialize(sequence));
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ArchivedMatch> findFinishedBetween(Instant from, Instant to) {
+        long cutoff = nanosOf(clock.instant()) - retentionNanos;
+        long fromNanos = Math.max(nanosOf(from), cutoff);
+        long toNanos = nanosOf(to);
+        lock.readLock().lock();
+        try {
+            List<ArchivedMatch> results = new ArrayList<>();
+            for (long sequence = firstFinishedAtOrAfter(fromNanos); sequence < nextSequence; sequence++) {
+                if (finishNanos[slot(sequence)] >= toNanos) {
+                    break;
+                }
+                results.add(materialize(sequence));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return (int) (nextSequence - firstSequence);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of results evicted by the size limit or the retention period so far.
+     */
+    public long getEvictedCount() {
+        lock.readLock().lock();
+        try {
+            return evicted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evicts results older than the retention period without waiting for the next archived match.
+     */
+    public void evictExpired() {
+        long now = nanosOf(clock.instant());
+        lock.writeLock().lock();
+        try {
+            evictOlderThan(now - retentionNanos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void evictOlderThan(long cutoff) {
+        while (firstSequence < nextSequence && finishNanos[slot(firstSequence)] < cutoff) {
+            evictFirst();
+        }
+    }
+
+    private void evictFirst() {
+        firstSequence++;
+        evicted++;
+    }
+
+    private long firstFinishedAtOrAfter(long nanos) {
+        long low = firstSequence;
+        long high = nextSequence;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (finishNanos[slot(middle)] < nanos) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private ArchivedMatch materialize(long sequence) {
+        int slot = slot(sequence);
+        return new ArchivedMatch(teams.nameOf(homeSpellingIds[slot]), teams.nameOf(awaySpellingIds[slot]),
+                homeScores[slot], awayScores[slot], instantOf(startNanos[slot]), instantOf(finishNanos[slot]));
+    }
+
+    private void addPosting(int teamId, long sequence) {
+        if (teamId >= postingSizes.length) {
+            int length = Math.max(teamId + 1, postingSizes.length * 2);
+            postings = Arrays.copyOf(postings, length);
+            postingSizes = Arrays.copyOf(postingSizes, length);
+        }
+        long[] sequences = postings[teamId];
+        int size = postingSizes[teamId];
+        if (sequences == null) {
+            sequences = new long[INITIAL_POSTINGS];
+        } else if (size == sequences.length) {
+            // drop evicted entries before growing, so a team's list stays bounded by its retained results
+            int firstRetained = 0;
+            while (firstRetained < size && sequences[firstRetained] < firstSequence) {
+                firstRetained++;
+            }
+            size -= firstRetained;
+            long[] compacted = size * 2 > sequences.length ? new long[sequences.length * 2] : sequences;
+            System.arraycopy(sequences, firstRetained, compacted, 0, size);
+            sequences = compacted;
+        }
+        sequences[size] = sequence;
+        postings[teamId] = sequences;
+        postingSizes[teamId] = size + 1;
+    }
+
+    private void ensureCapacity(int required) {
+        int capacity = homeSpellingIds.length;
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = (int) Math.min(maxResults, Math.max((long) capacity * 2, required));
+        int[] oldHomeSpellingIds = homeSpellingIds;
+        int[] oldAwaySpellingIds = awaySpellingIds;
+        int[] oldHomeScores = homeScores;
+        int[] oldAwayScores = awayScores;
+        long[] oldStartNanos = startNanos;
+        long[] oldFinishNanos = finishNanos;
+        allocateColumns(newCapacity);
+        for (long sequence = firstSequence; sequence < nextSequence; sequence++) {
+            int from = (int) (sequence % capacity);
+            int to = slot(sequence);
+            homeSpellingIds[to] = oldHomeSpellingIds[from];
+            awaySpellingIds[to] = oldAwaySpellingIds[from];
+            homeScores[to] = oldHomeScores[from];
+            awayScores[to] = oldAwayScores[from];
+            startNanos[to] = oldStartNanos[from];
+            finishNanos[to] = oldFinishNanos[from];
+        }
+    }
+
+    private void allocateColumns(int capacity) {
+        homeSpellingIds = new int[capacity];
+        awaySpellingIds = new int[capacity];
+        homeScores = new int[capacity];
+        awayScores = new int[capacity];
+        startNanos = new long[capacity];
+        finishNanos = new long[capacity];
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % homeSpellingIds.length);
+    }
+
+    // saturates instead of overflowing, so Instant.MIN and Instant.MAX work as open bounds of a time window
+    private static long nanosOf(Instant instant) {
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static Instant instantOf(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+}
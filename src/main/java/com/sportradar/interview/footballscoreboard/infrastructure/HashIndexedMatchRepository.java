@@ -0,0 +1,176 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchIds;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public class HashIndexedMatchRepository implements MatchRepository {
+
+    private static final Comparator<Match> START_ORDER = Comparator.comparingLong(Match::getStartSequence);
+
+    private final TeamDictionary teams;
+    private final Map<MatchKey, Match> matches;
+    private final TeamMatchIndex matchesByTeam;
+    private final MatchSlots slots;
+
+    public HashIndexedMatchRepository() {
+        this(0);
+    }
+
+    /**
+     * @param idNamespace Namespace of the ids this repository assigns, see {@link MatchIds}.
+     */
+    public HashIndexedMatchRepository(int idNamespace) {
+        this(idNamespace, new TeamDictionary());
+    }
+
+    /**
+     * @param idNamespace Namespace of the ids this repository assigns, see {@link MatchIds}.
+     * @param teams       Dictionary to resolve team names with, shared with the matches saved here.
+     */
+    public HashIndexedMatchRepository(int idNamespace, TeamDictionary teams) {
+        this.teams = teams;
+        this.matches = new ConcurrentHashMap<>();
+        this.matchesByTeam = new TeamMatchIndex();
+        this.slots = new MatchSlots(idNamespace);
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return teams;
+    }
+
+    @Override
+    public Match save(Match match) {
+        checkTeams(match);
+        if (matches.get(match.getKey()) == match) {
+            return match;
+        }
+        return matches.compute(match.getKey(), (key, existingMatch) -> {
+            if (existingMatch == null) {
+                register(match);
+                return match;
+            }
+            existingMatch.updateScore(match.getHomeScore(), match.getAwayScore());
+            return existingMatch;
+        });
+    }
+
+    @Override
+    public boolean saveIfAbsent(Match match) {
+        checkTeams(match);
+        return matches.computeIfAbsent(match.getKey(), key -> {
+            register(match);
+            return match;
+        }) == match;
+    }
+
+    @Override
+    public boolean restore(Match match) {
+        checkTeams(match);
+        boolean[] restored = new boolean[1];
+        matches.computeIfAbsent(match.getKey(), key -> {
+            slots.restore(match);
+            matchesByTeam.add(match);
+            restored[0] = true;
+            return match;
+        });
+        return restored[0];
+    }
+
+    @Override
+    public boolean delete(String homeTeam, String awayTeam) {
+        return delete(getByTeams(homeTeam, awayTeam));
+    }
+
+    @Override
+    public boolean delete(long id) {
+        return delete(slots.get(id));
+    }
+
+    @Override
+    public Optional<Match> findByTeams(String team1, String team2) {
+        return Optional.ofNullable(getByTeams(team1, team2));
+    }
+
+    @Override
+    public Match getByTeams(String team1, String team2) {
+        int teamId1 = teams.findId(team1);
+        int teamId2 = teams.findId(team2);
+        if (teamId1 == TeamDictionary.UNKNOWN_ID || teamId2 == TeamDictionary.UNKNOWN_ID) {
+            return null;
+        }
+        return matchesByTeam.matchOf(teamId1, teamId2);
+    }
+
+    @Override
+    public List<Match> findByTeam(String team) {
+        int teamId = teams.findId(team);
+        return teamId == TeamDictionary.UNKNOWN_ID ? List.of() : List.of(matchesByTeam.matchesOf(teamId));
+    }
+
+    @Override
+    public Optional<Match> findById(long id) {
+        return Optional.ofNullable(slots.get(id));
+    }
+
+    @Override
+    public Match getById(long id) {
+        return slots.get(id);
+    }
+
+    @Override
+    public List<Match> findAll() {
+        // the primary index is a hash map, so the start order is restored here
+        Match[] all = matches.values().toArray(new Match[0]);
+        Arrays.sort(all, START_ORDER);
+        return List.of(all);
+    }
+
+    @Override
+    public int count() {
+        return matches.size();
+    }
+
+    private boolean delete(Match match) {
+        if (match == null) {
+            return false;
+        }
+        boolean[] deleted = new boolean[1];
+        matches.computeIfPresent(match.getKey(), (key, existingMatch) -> {
+            if (existingMatch != match) {
+                return existingMatch;
+            }
+            unregister(match);
+            deleted[0] = true;
+            return null;
+        });
+        return deleted[0];
+    }
+
+    private void checkTeams(Match match) {
+        if (match.getTeams() != teams) {
+            throw new IllegalArgumentException("Match must be created with the team dictionary of the repository.");
+        }
+    }
+
+    private void register(Match match) {
+        slots.allocate(match);
+        matchesByTeam.add(match);
+    }
+
+    private void unregister(Match match) {
+        slots.release(match);
+        matchesByTeam.remove(match);
+    }
+}
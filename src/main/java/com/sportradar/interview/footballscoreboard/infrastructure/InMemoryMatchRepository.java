@@ -1,47 +1,121 @@
 package com.sportradar.interview.footballscoreboard.infrastructure;
 
 import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchIds;
+import com.sportradar.interview.footballscoreboard.domain.MatchKey;
 import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class InMemoryMatchRepository implements MatchRepository {
 
+    private final TeamDictionary teams;
     private final List<Match> matches;
+    private final AtomicLong nextId;
 
+    /**
+     * Shares the {@link TeamDictionary#defaultDictionary() default dictionary}, so it saves matches created without
+     * a dictionary.
+     */
     public InMemoryMatchRepository() {
+        this(0, TeamDictionary.defaultDictionary());
+    }
+
+    /**
+     * @param idNamespace Namespace of the ids this repository assigns, see {@link MatchIds}.
+     */
+    public InMemoryMatchRepository(int idNamespace) {
+        this(idNamespace, new TeamDictionary());
+    }
+
+    /**
+     * @param idNamespace Namespace of the ids this repository assigns, see {@link MatchIds}.
+     * @param teams       Dictionary to resolve team names with, shared with the matches saved here.
+     */
+    public InMemoryMatchRepository(int idNamespace, TeamDictionary teams) {
+        MatchIds.checkNamespace(idNamespace);
+        this.teams = teams;
         this.matches = new CopyOnWriteArrayList<>();
+        this.nextId = new AtomicLong(MatchIds.of(idNamespace, 0));
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return teams;
     }
 
     @Override
-    public Match save(Match match) {
-        Optional<Match> existingMatch = findByTeams(match.getHomeTeam(), match.getAwayTeam());
+    public synchronized Match save(Match match) {
+        checkTeams(match);
+        Optional<Match> existingMatch = findByKey(match.getKey());
         if (existingMatch.isPresent()) {
             Match foundMatch = existingMatch.get();
             foundMatch.updateScore(match.getHomeScore(), match.getAwayScore());
             return foundMatch;
         } else {
+            match.assignId(nextId.getAndIncrement());
             matches.add(match);
             return match;
         }
     }
 
     @Override
-    public boolean delete(String homeTeam, String awayTeam) {
+    public synchronized boolean saveIfAbsent(Match match) {
+        checkTeams(match);
+        if (findByKey(match.getKey()).isPresent()) {
+            return false;
+        }
+        match.assignId(nextId.getAndIncrement());
+        matches.add(match);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean restore(Match match) {
+        checkTeams(match);
+        if (findByKey(match.getKey()).isPresent()) {
+            return false;
+        }
+        // back to its place in start order
+        int index = 0;
+        while (index < matches.size() && matches.get(index).getStartSequence() < match.getStartSequence()) {
+            index++;
+        }
+        matches.add(index, match);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean delete(String homeTeam, String awayTeam) {
         Optional<Match> matchToRemove = findByTeams(homeTeam, awayTeam);
         return matchToRemove.map(matches::remove).orElse(false);
     }
 
     @Override
     public Optional<Match> findByTeams(String team1, String team2) {
+        MatchKey key = teams.findKey(team1, team2);
+        return key == null ? Optional.empty() : findByKey(key);
+    }
+
+    @Override
+    public int count() {
+        return matches.size();
+    }
+
+    private void checkTeams(Match match) {
+        if (match.getTeams() != teams) {
+            throw new IllegalArgumentException("Match must be created with the team dictionary of the repository.");
+        }
+    }
+
+    private Optional<Match> findByKey(MatchKey key) {
         return matches.stream()
-                .filter(match ->
-                        (match.getHomeTeam().equalsIgnoreCase(team1) && match.getAwayTeam().equalsIgnoreCase(team2)) ||
-                                (match.getHomeTeam().equalsIgnoreCase(team2) && match.getAwayTeam().equalsIgnoreCase(team1))
-                )
+                .filter(match -> match.getKey().equals(key))
                 .findFirst();
     }
 
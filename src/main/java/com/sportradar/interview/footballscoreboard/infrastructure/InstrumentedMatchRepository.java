@@ -0,0 +1,208 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import com.sportradar.interview.footballscoreboard.metrics.Operation;
+import com.sportradar.interview.footballscoreboard.metrics.ScoreBoardMetrics;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Records the latency of every call, failed calls and the lookups that found nothing of the wrapped repository
+ * into {@link ScoreBoardMetrics}.
+ */
+public class InstrumentedMatchRepository implements MatchRepository {
+
+    private final MatchRepository delegate;
+    private final ScoreBoardMetrics metrics;
+
+    public InstrumentedMatchRepository(MatchRepository delegate, ScoreBoardMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        metrics.registerGauge("repository.liveMatches", delegate::count);
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+
+    @Override
+    public Match save(Match match) {
+        long start = metrics.start();
+        try {
+            return delegate.save(match);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_SAVE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_SAVE, start);
+        }
+    }
+
+    @Override
+    public boolean saveIfAbsent(Match match) {
+        long start = metrics.start();
+        try {
+            return delegate.saveIfAbsent(match);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_SAVE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_SAVE, start);
+        }
+    }
+
+    @Override
+    public boolean restore(Match match) {
+        long start = metrics.start();
+        try {
+            return delegate.restore(match);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_SAVE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_SAVE, start);
+        }
+    }
+
+    @Override
+    public boolean delete(String homeTeam, String awayTeam) {
+        long start = metrics.start();
+        try {
+            boolean deleted = delegate.delete(homeTeam, awayTeam);
+            if (!deleted) {
+                metrics.recordMiss(Operation.REPOSITORY_DELETE);
+            }
+            return deleted;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_DELETE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_DELETE, start);
+        }
+    }
+
+    @Override
+    public boolean delete(long id) {
+        long start = metrics.start();
+        try {
+            boolean deleted = delegate.delete(id);
+            if (!deleted) {
+                metrics.recordMiss(Operation.REPOSITORY_DELETE);
+            }
+            return deleted;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_DELETE);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_DELETE, start);
+        }
+    }
+
+    @Override
+    public Optional<Match> findByTeams(String team1, String team2) {
+        long start = metrics.start();
+        try {
+            Optional<Match> match = delegate.findByTeams(team1, team2);
+            if (match.isEmpty()) {
+                metrics.recordMiss(Operation.REPOSITORY_FIND_BY_TEAMS);
+            }
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_FIND_BY_TEAMS);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_FIND_BY_TEAMS, start);
+        }
+    }
+
+    @Override
+    public Match getByTeams(String team1, String team2) {
+        long start = metrics.start();
+        try {
+            Match match = delegate.getByTeams(team1, team2);
+            if (match == null) {
+                metrics.recordMiss(Operation.REPOSITORY_FIND_BY_TEAMS);
+            }
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_FIND_BY_TEAMS);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_FIND_BY_TEAMS, start);
+        }
+    }
+
+    @Override
+    public List<Match> findByTeam(String team) {
+        long start = metrics.start();
+        try {
+            List<Match> matches = delegate.findByTeam(team);
+            if (matches.isEmpty()) {
+                metrics.recordMiss(Operation.REPOSITORY_FIND_BY_TEAM);
+            }
+            return matches;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_FIND_BY_TEAM);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_FIND_BY_TEAM, start);
+        }
+    }
+
+    @Override
+    public Optional<Match> findById(long id) {
+        long start = metrics.start();
+        try {
+            Optional<Match> match = delegate.findById(id);
+            if (match.isEmpty()) {
+                metrics.recordMiss(Operation.REPOSITORY_FIND_BY_ID);
+            }
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_FIND_BY_ID);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_FIND_BY_ID, start);
+        }
+    }
+
+    @Override
+    public Match getById(long id) {
+        long start = metrics.start();
+        try {
+            Match match = delegate.getById(id);
+            if (match == null) {
+                metrics.recordMiss(Operation.REPOSITORY_FIND_BY_ID);
+            }
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_FIND_BY_ID);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_FIND_BY_ID, start);
+        }
+    }
+
+    @Override
+    public List<Match> findAll() {
+        long start = metrics.start();
+        try {
+            return delegate.findAll();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(Operation.REPOSITORY_FIND_ALL);
+            throw e;
+        } finally {
+            metrics.stop(Operation.REPOSITORY_FIND_ALL, start);
+        }
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+}
@@ -0,0 +1,178 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Records every start, score update and finish of the wrapped repository in a memory-mapped journal and rebuilds
+ * the repository from it on construction, so live matches and their start times survive a restart.
+ * The journal is compacted into one record per live match whenever it fills up, or on demand via {@link #compact()}.
+ */
+public class JournalingMatchRepository implements MatchRepository, AutoCloseable {
+
+    public enum Durability {
+        /**
+         * Every write returns once it is forced to disk; writers waiting at the same time share one force.
+         */
+        GROUP_COMMIT,
+        /**
+         * Writes return once they are in the page cache, which survives a process crash but not a power loss.
+         * The journal is forced on compaction and close.
+         */
+        OS_BUFFERED
+    }
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024 * 1024;
+
+    private final MatchRepository delegate;
+    private final MatchJournal journal;
+    private final Durability durability;
+    private final long replayedRecords;
+
+    public JournalingMatchRepository(MatchRepository delegate, Path journalFile) {
+        this(delegate, journalFile, DEFAULT_CAPACITY, Durability.GROUP_COMMIT);
+    }
+
+    public JournalingMatchRepository(MatchRepository delegate, Path journalFile, int capacity, Durability durability) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Journal capacity must be positive.");
+        }
+        this.delegate = delegate;
+        this.durability = durability;
+        this.journal = new MatchJournal(journalFile, capacity, delegate);
+        try {
+            this.replayedRecords = journal.replay();
+        } catch (RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Number of journal records applied when the repository was opened.
+     */
+    public long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    /**
+     * @return Bytes currently used by the journal.
+     */
+    public int getJournalSize() {
+        return journal.size();
+    }
+
+    /**
+     * Rewrites the journal as one record per live match, bounding the time of the next replay.
+     */
+    public void compact() {
+        journal.compact();
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+    @Override
+    public TeamDictionary teams() {
+        return delegate.teams();
+    }
+
+    @Override
+    public Match save(Match match) {
+        // inserting first lets the delegate decide atomically whether the match is new
+        if (delegate.saveIfAbsent(match)) {
+            commit(journal.appendStart(match));
+            return match;
+        }
+        Match savedMatch = delegate.save(match);
+        commit(journal.appendScore(savedMatch));
+        return savedMatch;
+    }
+
+    @Override
+    public boolean saveIfAbsent(Match match) {
+        if (!delegate.saveIfAbsent(match)) {
+            return false;
+        }
+        commit(journal.appendStart(match));
+        return true;
+    }
+
+    @Override
+    public boolean restore(Match match) {
+        if (!delegate.restore(match)) {
+            return false;
+        }
+        commit(journal.appendStart(match));
+        return true;
+    }
+
+    @Override
+    public boolean delete(String homeTeam, String awayTeam) {
+        Match match = delegate.getByTeams(homeTeam, awayTeam);
+        if (match == null || !delegate.delete(homeTeam, awayTeam)) {
+            return false;
+        }
+        commit(journal.appendFinish(match));
+        return true;
+    }
+
+    @Override
+    public boolean delete(long id) {
+        Match match = delegate.getById(id);
+        if (match == null || !delegate.delete(id)) {
+            return false;
+        }
+        commit(journal.appendFinish(match));
+        return true;
+    }
+
+    @Override
+    public Optional<Match> findByTeams(String team1, String team2) {
+        return delegate.findByTeams(team1, team2);
+    }
+
+    @Override
+    public Match getByTeams(String team1, String team2) {
+        return delegate.getByTeams(team1, team2);
+    }
+
+    @Override
+    public List<Match> findByTeam(String team) {
+        return delegate.findByTeam(team);
+    }
+
+    @Override
+    public Optional<Match> findById(long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Match getById(long id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public List<Match> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    private void commit(long record) {
+        if (durability == Durability.GROUP_COMMIT) {
+            journal.awaitDurable(record);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+
+/**
+ * Append-only binary journal written through a memory-mapped file.
+ * <p>
+ * Every record is framed as {@code [int payloadLength][int crc32c][payload]} and the journal ends at the first
+ * frame with a zero length, so a torn tail left by a crash is detected by its checksum and ignored on replay.
+ * A record with a valid checksum was written completely, so one that can not be applied is corruption rather than
+ * a torn tail and fails the replay instead of truncating the journal.
+ * Payloads start with a record type byte:
+ * <ul>
+ *     <li>START: start epoch second (long), nanos (int), start sequence (long), home score (int), away score (int),
+ *     home team, away team</li>
+ *     <li>SCORE: home score (int), away score (int), home team, away team</li>
+ *     <li>FINISH: home team, away team</li>
+ * </ul>
+ * Team names are stored as an unsigned short length followed by UTF-8 bytes.
+ */
+class MatchJournal implements AutoCloseable {
+
+    static final byte START = 1;
+    static final byte SCORE = 2;
+    static final byte FINISH = 3;
+
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private final Path file;
+    private final ReentrantLock appendLock;
+    private final Object flushLock;
+    private final CRC32C crc;
+    private final MatchRepository state;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private volatile long appendedRecords;
+    private volatile long durableRecords;
+
+    /**
+     * @param file     Journal file, created if missing.
+     * @param capacity Initial size of the mapping in bytes.
+     * @param state    Repository the journal is replayed into and compacted from.
+     */
+    MatchJournal(Path file, int capacity, MatchRepository state) {
+        this.file = file;
+        this.state = state;
+        this.appendLock = new ReentrantLock();
+        this.flushLock = new Object();
+        this.crc = new CRC32C();
+        this.capacity = capacity;
+        map(file, capacity);
+    }
+
+    /**
+     * Applies every intact record to the state repository and positions the journal after the last one.
+     *
+     * @return Number of replayed records.
+     * @throws IllegalStateException if a record with a valid checksum can not be applied; the journal is left as it is.
+     */
+    long replay() {
+        appendLock.lock();
+        try {
+            int position = 0;
+            long records = 0;
+            ByteBuffer view = buffer.duplicate();
+            while (position + FRAME_HEADER_BYTES <= capacity) {
+                int length = view.getInt(position);
+                if (length <= 0 || position + FRAME_HEADER_BYTES + length > capacity) {
+                    break;
+                }
+                ByteBuffer payload = view.slice(position + FRAME_HEADER_BYTES, length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != view.getInt(position + Integer.BYTES)) {
+                    break;
+                }
+                apply(payload, position);
+                position += FRAME_HEADER_BYTES + length;
+                records++;
+            }
+            buffer.position(position);
+            terminate();
+            appendedRecords = records;
+            durableRecords = records;
+            return records;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * @return Sequence number of the appended record, to be passed to {@link #awaitDurable(long)}.
+     */
+    long appendStart(Match match) {
+        byte[] homeTeam = encodeName(match.getHomeTeam());
+        byte[] awayTeam = encodeName(match.getAwayTeam());
+        appendLock.lock();
+        try {
+            ensureRoom(startLength(homeTeam, awayTeam));
+            return putStart(match, homeTeam, awayTeam);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    long appendScore(Match match) {
+        byte[] homeTeam = encodeName(match.getHomeTeam());
+        byte[] awayTeam = encodeName(match.getAwayTeam());
+        int length = 1 + 2 * Integer.BYTES + names(homeTeam, awayTeam);
+        appendLock.lock();
+        try {
+            ensureRoom(length);
+            int start = openFrame();
+            buffer.put(SCORE)
+                    .putInt(match.getHomeScore())
+                    .putInt(match.getAwayScore());
+            putNames(homeTeam, awayTeam);
+            return endRecord(start, length);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    long appendFinish(Match match) {
+        byte[] homeTeam = encodeName(match.getHomeTeam());
+        byte[] awayTeam = encodeName(match.getAwayTeam());
+        int length = 1 + names(homeTeam, awayTeam);
+        appendLock.lock();
+        try {
+            ensureRoom(length);
+            int start = openFrame();
+            buffer.put(FINISH);
+            putNames(homeTeam, awayTeam);
+            return endRecord(start, length);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the given record is on disk. Callers waiting at the same time share a single force,
+     * so concurrent writers are committed as a group.
+     *
+     * @param record Sequence number returned by one of the append methods.
+     */
+    void awaitDurable(long record) {
+        if (durableRecords >= record) {
+            return;
+        }
+        synchronized (flushLock) {
+            if (durableRecords >= record) {
+                return;
+            }
+            long target;
+            MappedByteBuffer current;
+            appendLock.lock();
+            try {
+                target = appendedRecords;
+                current = buffer;
+            } finally {
+                appendLock.unlock();
+            }
+            current.force();
+            durableRecords = Math.max(durableRecords, target);
+        }
+    }
+
+    /**
+     * Replaces the journal with one START record per live match, so replay time depends on the number of live
+     * matches rather than on the length of the history.
+     */
+    void compact() {
+        appendLock.lock();
+        try {
+            rewrite(capacity);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * @return Bytes used by the journal, including the records written since the last compaction.
+     */
+    int size() {
+        appendLock.lock();
+        try {
+            return buffer.position();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close journal " + file, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void ensureRoom(int length) {
+        if (buffer.remaining() < FRAME_HEADER_BYTES + length + Integer.BYTES) {
+            rewrite(capacity, FRAME_HEADER_BYTES + length);
+        }
+    }
+
+    private int openFrame() {
+        int start = buffer.position();
+        buffer.position(start + FRAME_HEADER_BYTES);
+        return start;
+    }
+
+    private long putStart(Match match, byte[] homeTeam, byte[] awayTeam) {
+        int length = startLength(homeTeam, awayTeam);
+        int start = openFrame();
+        buffer.put(START)
+                .putLong(match.getStartTime().getEpochSecond())
+                .putInt(match.getStartTime().getNano())
+                .putLong(match.getStartSequence())
+                .putInt(match.getHomeScore())
+                .putInt(match.getAwayScore());
+        putNames(homeTeam, awayTeam);
+        return endRecord(start, length);
+    }
+
+    private long endRecord(int start, int length) {
+        crc.reset();
+        crc.update(buffer.slice(start + FRAME_HEADER_BYTES, length));
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+        terminate();
+        buffer.putInt(start, length);
+        return ++appendedRecords;
+    }
+
+    private void terminate() {
+        if (buffer.remaining() >= Integer.BYTES) {
+            buffer.putInt(buffer.position(), 0);
+        }
+    }
+
+    private void rewrite(int minCapacity) {
+        rewrite(minCapacity, 0);
+    }
+
+    // the new journal gets at least twice the room its snapshot and the pending record need, so it is not compacted
+    // again right away
+    private void rewrite(int minCapacity, int reservedBytes) {
+        List<Match> liveMatches = state.findAll();
+        List<byte[]> names = new ArrayList<>(2 * liveMatches.size());
+        int required = reservedBytes + Integer.BYTES;
+        for (Match match : liveMatches) {
+            byte[] homeTeam = encodeName(match.getHomeTeam());
+            byte[] awayTeam = encodeName(match.getAwayTeam());
+            names.add(homeTeam);
+            names.add(awayTeam);
+            required += FRAME_HEADER_BYTES + startLength(homeTeam, awayTeam);
+        }
+        int newCapacity = required * 2L > minCapacity ? (int) Math.min(Integer.MAX_VALUE, required * 2L) : minCapacity;
+
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        FileChannel previousChannel = channel;
+        try {
+            Files.deleteIfExists(compacted);
+            map(compacted, newCapacity);
+            for (int i = 0; i < liveMatches.size(); i++) {
+                putStart(liveMatches.get(i), names.get(2 * i), names.get(2 * i + 1));
+            }
+            buffer.force();
+            previousChannel.close();
+            Files.move(compacted, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            durableRecords = appendedRecords;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact journal " + file, e);
+        }
+    }
+
+    private void map(Path path, int size) {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int mappedSize = (int) Math.max(size, channel.size());
+            capacity = mappedSize;
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map journal " + path, e);
+        }
+    }
+
+    private void putNames(byte[] homeTeam, byte[] awayTeam) {
+        buffer.putShort((short) homeTeam.length).put(homeTeam);
+        buffer.putShort((short) awayTeam.length).put(awayTeam);
+    }
+
+    private void apply(ByteBuffer payload, int position) {
+        try {
+            byte type = payload.get();
+            switch (type) {
+                case START -> {
+                    Instant startTime = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+                    long startSequence = payload.getLong();
+                    int homeScore = payload.getInt();
+                    int awayScore = payload.getInt();
+                    state.save(new Match(state.teams(), readName(payload), readName(payload),
+                            homeScore, awayScore, startTime, startSequence));
+                }
+                case SCORE -> {
+                    int homeScore = payload.getInt();
+                    int awayScore = payload.getInt();
+                    Match match = state.getByTeams(readName(payload), readName(payload));
+                    if (match != null) {
+                        match.updateScore(homeScore, awayScore);
+                        state.save(match);
+                    }
+                }
+                case FINISH -> state.delete(readName(payload), readName(payload));
+                default -> throw new IllegalStateException("Journal record at " + position + " of " + file
+                        + " has unknown type " + type + ".");
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalStateException("Journal record at " + position + " of " + file + " can not be applied.", e);
+        }
+    }
+
+    private static String readName(ByteBuffer payload) {
+        byte[] name = new byte[Short.toUnsignedInt(payload.getShort())];
+        payload.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encodeName(String name) {
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Team name " + name + " is too long to be journaled.");
+        }
+        return encoded;
+    }
+
+    private static int startLength(byte[] homeTeam, byte[] awayTeam) {
+        return 1 + 2 * Long.BYTES + 3 * Integer.BYTES + names(homeTeam, awayTeam);
+    }
+
+    private static int names(byte[] homeTeam, byte[] awayTeam) {
+        return 2 * Short.BYTES + homeTeam.length + awayTeam.length;
+    }
+}
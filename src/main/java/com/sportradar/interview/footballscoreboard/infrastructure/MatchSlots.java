@@ -0,0 +1,121 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchIds;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Dense, id-indexed table of live matches. An id packs the slot index in its low 32 bits, the
+ * slot generation in the next 24 bits and the id namespace above them (see {@link MatchIds}), so ids
+ * of finished matches never resolve to a match that later reuses the same slot. Lookups are lock-free;
+ * allocating and releasing slots is serialized.
+ */
+public class MatchSlots {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int GENERATION_MASK = (1 << 24) - 1;
+
+    private final int namespace;
+    private volatile AtomicReferenceArray<Match> slots;
+    private int[] generations;
+    private int[] freeSlots;
+    private int freeCount;
+    private int used;
+
+    public MatchSlots() {
+        this(0);
+    }
+
+    /**
+     * @param namespace Id namespace of the owning repository.
+     */
+    public MatchSlots(int namespace) {
+        MatchIds.checkNamespace(namespace);
+        this.namespace = namespace;
+        this.slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        this.generations = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param id Match id.
+     * @return The live Match with this id, or null.
+     */
+    public Match get(long id) {
+        int slot = (int) id;
+        AtomicReferenceArray<Match> current = slots;
+        if (id < 0 || slot >= current.length()) {
+            return null;
+        }
+        Match match = current.get(slot);
+        return match != null && match.getId() == id ? match : null;
+    }
+
+    /**
+     * Stores the match in a free slot and assigns it the resulting id.
+     *
+     * @param match Match to store.
+     */
+    public synchronized void allocate(Match match) {
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+        match.assignId(MatchIds.of(namespace, ((long) generations[slot] << 32) | slot));
+        slots.set(slot, match);
+    }
+
+    /**
+     * Stores a released match in its slot again, keeping its id. If the slot has been reused since, the match is
+     * allocated a new slot instead, so an id never names two different matches.
+     *
+     * @param match Match previously released by {@link #release(Match)}.
+     */
+    public synchronized void restore(Match match) {
+        long id = match.getId();
+        int slot = (int) id;
+        if (id < 0 || MatchIds.namespaceOf(id) != namespace || slot >= used || slots.get(slot) != null
+                || generations[slot] != (((int) (id >>> 32) + 1) & GENERATION_MASK)) {
+            allocate(match);
+            return;
+        }
+        // released and not reused since, so the slot is still on the free list, most likely on top
+        int free = freeCount - 1;
+        while (freeSlots[free] != slot) {
+            free--;
+        }
+        System.arraycopy(freeSlots, free + 1, freeSlots, free, freeCount - free - 1);
+        freeCount--;
+        generations[slot] = (int) (id >>> 32) & GENERATION_MASK;
+        slots.set(slot, match);
+    }
+
+    /**
+     * @param match Match previously stored by {@link #allocate(Match)}.
+     */
+    public synchronized void release(Match match) {
+        int slot = (int) match.getId();
+        if (slot < 0 || slot >= used || slots.get(slot) != match) {
+            return;
+        }
+        slots.set(slot, null);
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int nextSlot() {
+        if (used == slots.length()) {
+            int capacity = used * 2;
+            AtomicReferenceArray<Match> grown = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < used; i++) {
+                grown.set(i, slots.get(i));
+            }
+            slots = grown;
+            generations = Arrays.copyOf(generations, capacity);
+        }
+        return used++;
+    }
+}
@@ -0,0 +1,214 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Versioned binary snapshot of all live matches.
+ * <p>
+ * Layout, big-endian:
+ * <pre>
+ * int   magic ("FSBS")
+ * short format version
+ * short reserved
+ * int   team count, followed by each team as an unsigned short length and UTF-8 bytes
+ * int   match count, followed by fixed-width match records:
+ *       int home team index, int away team index, long start time in epoch nanos, long start sequence,
+ *       int home score, int away score
+ * </pre>
+ * Team indexes refer to the team table of the snapshot, which holds every spelling the matches were started with,
+ * not to process-local team ids, so a snapshot can be restored into another dictionary or process. Encoding and
+ * decoding work directly on the given buffer, which may be a direct or memory-mapped one.
+ */
+public final class MatchSnapshotCodec {
+
+    public static final int MAGIC = 0x46534253;
+    public static final short FORMAT_VERSION = 2;
+
+    private static final int HEADER_BYTES = Integer.BYTES + 2 * Short.BYTES;
+    private static final int MATCH_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private MatchSnapshotCodec() {
+    }
+
+    /**
+     * @param matches Matches to snapshot.
+     * @return A buffer holding the snapshot, positioned at its start.
+     */
+    public static ByteBuffer encode(Collection<Match> matches) {
+        TeamTable teams = TeamTable.of(matches);
+        ByteBuffer target = ByteBuffer.allocate(teams.encodedSize(matches.size()));
+        teams.write(matches, target);
+        return target.flip();
+    }
+
+    /**
+     * Writes the snapshot at the position of the target buffer and advances it past the snapshot.
+     *
+     * @param matches Matches to snapshot.
+     * @param target  Buffer with enough room left, see {@link #encodedSize(Collection)}.
+     * @throws IllegalArgumentException if the buffer is too small.
+     */
+    public static void encode(Collection<Match> matches, ByteBuffer target) {
+        TeamTable teams = TeamTable.of(matches);
+        int size = teams.encodedSize(matches.size());
+        if (target.remaining() < size) {
+            throw new IllegalArgumentException("Snapshot needs " + size + " bytes but only " + target.remaining() + " remain.");
+        }
+        teams.write(matches, target);
+    }
+
+    /**
+     * @param matches Matches to snapshot.
+     * @return Exact number of bytes the snapshot of the matches takes.
+     */
+    public static int encodedSize(Collection<Match> matches) {
+        return TeamTable.of(matches).encodedSize(matches.size());
+    }
+
+    /**
+     * Reads a snapshot from the position of the source buffer and advances it past the snapshot.
+     *
+     * @param source Buffer holding a snapshot.
+     * @param teams  Dictionary to create the matches with.
+     * @return Detached matches with their team spellings, scores, start times and start sequences.
+     * @throws IllegalArgumentException if the buffer does not hold a snapshot of a supported version.
+     */
+    public static List<Match> decode(ByteBuffer source, TeamDictionary teams) {
+        ByteBuffer buffer = source.slice().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Buffer does not hold a scoreboard snapshot.");
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + version + ".");
+            }
+            buffer.getShort();
+
+            int teamCount = buffer.getInt();
+            if (teamCount < 0 || (long) teamCount * Short.BYTES > buffer.remaining()) {
+                throw new IllegalArgumentException("Snapshot is truncated.");
+            }
+            String[] teamNames = new String[teamCount];
+            byte[] name = new byte[64];
+            for (int i = 0; i < teamNames.length; i++) {
+                int length = Short.toUnsignedInt(buffer.getShort());
+                if (name.length < length) {
+                    name = new byte[length];
+                }
+                buffer.get(name, 0, length);
+                teamNames[i] = new String(name, 0, length, StandardCharsets.UTF_8);
+            }
+
+            int matchCount = buffer.getInt();
+            if (matchCount < 0 || (long) matchCount * MATCH_BYTES > buffer.remaining()) {
+                throw new IllegalArgumentException("Snapshot is truncated.");
+            }
+            List<Match> matches = new ArrayList<>(matchCount);
+            for (int i = 0; i < matchCount; i++) {
+                String homeTeam = teamNames[buffer.getInt()];
+                String awayTeam = teamNames[buffer.getInt()];
+                long startNanos = buffer.getLong();
+                Instant startTime = Instant.ofEpochSecond(Math.floorDiv(startNanos, NANOS_PER_SECOND), Math.floorMod(startNanos, NANOS_PER_SECOND));
+                long startSequence = buffer.getLong();
+                int homeScore = buffer.getInt();
+                int awayScore = buffer.getInt();
+                matches.add(new Match(teams, homeTeam, awayTeam, homeScore, awayScore, startTime, startSequence));
+            }
+            source.position(source.position() + buffer.position());
+            return matches;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Snapshot is truncated or corrupt.", e);
+        }
+    }
+
+    /**
+     * Decodes a snapshot and saves every match into the repository.
+     *
+     * @param source     Buffer holding a snapshot.
+     * @param repository Repository receiving the matches, normally empty.
+     * @return Number of restored matches.
+     */
+    public static int restore(ByteBuffer source, MatchRepository repository) {
+        List<Match> matches = decode(source, repository.teams());
+        matches.forEach(repository::save);
+        return matches.size();
+    }
+
+    private static final class TeamTable {
+
+        private final Map<String, Integer> indexBySpelling;
+        private final byte[][] names;
+        private final int namesBytes;
+
+        private TeamTable(Map<String, Integer> indexBySpelling, byte[][] names, int namesBytes) {
+            this.indexBySpelling = indexBySpelling;
+            this.names = names;
+            this.namesBytes = namesBytes;
+        }
+
+        static TeamTable of(Collection<Match> matches) {
+            Map<String, Integer> indexBySpelling = new HashMap<>();
+            List<byte[]> names = new ArrayList<>();
+            int namesBytes = 0;
+            for (Match match : matches) {
+                namesBytes += register(match.getHomeTeam(), indexBySpelling, names);
+                namesBytes += register(match.getAwayTeam(), indexBySpelling, names);
+            }
+            return new TeamTable(indexBySpelling, names.toArray(new byte[0][]), namesBytes);
+        }
+
+        private static int register(String teamName, Map<String, Integer> indexBySpelling, List<byte[]> names) {
+            if (indexBySpelling.containsKey(teamName)) {
+                return 0;
+            }
+            byte[] name = teamName.getBytes(StandardCharsets.UTF_8);
+            if (name.length > 0xFFFF) {
+                throw new IllegalArgumentException("Team name " + teamName + " is too long for a snapshot.");
+            }
+            indexBySpelling.put(teamName, names.size());
+            names.add(name);
+            return Short.BYTES + name.length;
+        }
+
+        int encodedSize(int matchCount) {
+            return HEADER_BYTES + Integer.BYTES + namesBytes + Integer.BYTES + matchCount * MATCH_BYTES;
+        }
+
+        void write(Collection<Match> matches, ByteBuffer target) {
+            ByteOrder order = target.order();
+            target.order(ByteOrder.BIG_ENDIAN);
+            target.putInt(MAGIC).putShort(FORMAT_VERSION).putShort((short) 0);
+            target.putInt(names.length);
+            for (byte[] name : names) {
+                target.putShort((short) name.length).put(name);
+            }
+            target.putInt(matches.size());
+            for (Match match : matches) {
+                Instant startTime = match.getStartTime();
+                target.putInt(indexBySpelling.get(match.getHomeTeam()))
+                        .putInt(indexBySpelling.get(match.getAwayTeam()))
+                        .putLong(Math.addExact(Math.multiplyExact(startTime.getEpochSecond(), NANOS_PER_SECOND), startTime.getNano()))
+                        .putLong(match.getStartSequence())
+                        .putInt(match.getHomeScore())
+                        .putInt(match.getAwayScore());
+            }
+            target.order(order);
+        }
+    }
+}
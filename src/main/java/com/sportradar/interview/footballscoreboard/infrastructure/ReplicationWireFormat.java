@@ -0,0 +1,140 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.ReplicationBatch;
+import com.sportradar.interview.footballscoreboard.application.ReplicationRecord;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Binary protocol between a {@link SocketReplicationServer} and a {@link SocketReplicationSource}.
+ * <p>
+ * A request is {@code [long afterOffset][int maxRecords][long maxWaitMillis]}. A response starts with
+ * {@code [long leaderOffset][byte kind]}, followed for a snapshot by {@code [int length]} and a
+ * {@link MatchSnapshotCodec} snapshot, or for records by {@code [int count]} and the records, each starting with
+ * its type byte and offset:
+ * <ul>
+ *     <li>STARTED: start epoch second (long), nanos (int), start sequence (long), home score (int),
+ *     away score (int), home team, away team</li>
+ *     <li>SCORE_UPDATED: home score (int), away score (int), home team, away team</li>
+ *     <li>FINISHED: home team, away team</li>
+ * </ul>
+ * Team names are written in modified UTF-8 as by {@link DataOutputStream#writeUTF(String)}. The matches of a read
+ * batch are interned into a dictionary of their own, so followers re-create them in theirs.
+ */
+final class ReplicationWireFormat {
+
+    static final byte RECORDS = 1;
+    static final byte SNAPSHOT = 2;
+
+    static final byte STARTED = 1;
+    static final byte SCORE_UPDATED = 2;
+    static final byte FINISHED = 3;
+
+    private ReplicationWireFormat() {
+    }
+
+    static void writeRequest(DataOutputStream out, long afterOffset, int maxRecords, long maxWaitMillis) throws IOException {
+        out.writeLong(afterOffset);
+        out.writeInt(maxRecords);
+        out.writeLong(maxWaitMillis);
+        out.flush();
+    }
+
+    static void writeBatch(DataOutputStream out, ReplicationBatch batch) throws IOException {
+        out.writeLong(batch.leaderOffset());
+        if (batch.isSnapshot()) {
+            ByteBuffer snapshot = MatchSnapshotCodec.encode(batch.snapshot());
+            out.writeByte(SNAPSHOT);
+            out.writeInt(snapshot.remaining());
+            out.write(snapshot.array(), snapshot.arrayOffset() + snapshot.position(), snapshot.remaining());
+        } else {
+            out.writeByte(RECORDS);
+            out.writeInt(batch.records().size());
+            for (ReplicationRecord record : batch.records()) {
+                writeRecord(out, record);
+            }
+        }
+        out.flush();
+    }
+
+    static ReplicationBatch readBatch(DataInputStream in) throws IOException {
+        long leaderOffset = in.readLong();
+        byte kind = in.readByte();
+        TeamDictionary teams = new TeamDictionary();
+        if (kind == SNAPSHOT) {
+            byte[] snapshot = new byte[in.readInt()];
+            in.readFully(snapshot);
+            List<Match> matches = MatchSnapshotCodec.decode(ByteBuffer.wrap(snapshot), teams);
+            return ReplicationBatch.ofSnapshot(leaderOffset, matches);
+        }
+        if (kind != RECORDS) {
+            throw new IOException("Unknown replication response kind " + kind + ".");
+        }
+        int count = in.readInt();
+        List<ReplicationRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(readRecord(in, teams));
+        }
+        return ReplicationBatch.ofRecords(leaderOffset, records);
+    }
+
+    private static void writeRecord(DataOutputStream out, ReplicationRecord record) throws IOException {
+        switch (record) {
+            case ReplicationRecord.Started started -> {
+                Match match = started.match();
+                out.writeByte(STARTED);
+                out.writeLong(started.offset());
+                out.writeLong(match.getStartTime().getEpochSecond());
+                out.writeInt(match.getStartTime().getNano());
+                out.writeLong(match.getStartSequence());
+                out.writeInt(match.getHomeScore());
+                out.writeInt(match.getAwayScore());
+            }
+            case ReplicationRecord.ScoreUpdated updated -> {
+                out.writeByte(SCORE_UPDATED);
+                out.writeLong(updated.offset());
+                out.writeInt(updated.homeScore());
+                out.writeInt(updated.awayScore());
+            }
+            case ReplicationRecord.Finished finished -> {
+                out.writeByte(FINISHED);
+                out.writeLong(finished.offset());
+            }
+        }
+        out.writeUTF(record.homeTeam());
+        out.writeUTF(record.awayTeam());
+    }
+
+    private static ReplicationRecord readRecord(DataInputStream in, TeamDictionary teams) throws IOException {
+        byte type = in.readByte();
+        long offset = in.readLong();
+        switch (type) {
+            case STARTED -> {
+                Instant startTime = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                long startSequence = in.readLong();
+                int homeScore = in.readInt();
+                int awayScore = in.readInt();
+                return new ReplicationRecord.Started(offset,
+                        new Match(teams, in.readUTF(), in.readUTF(), homeScore, awayScore, startTime, startSequence));
+            }
+            case SCORE_UPDATED -> {
+                int homeScore = in.readInt();
+                int awayScore = in.readInt();
+                return new ReplicationRecord.ScoreUpdated(offset, in.readUTF(), in.readUTF(), homeScore, awayScore);
+            }
+            case FINISHED -> {
+                return new ReplicationRecord.Finished(offset, in.readUTF(), in.readUTF());
+            }
+            default -> throw new IOException("Unknown replication record type " + type + ".");
+        }
+    }
+}
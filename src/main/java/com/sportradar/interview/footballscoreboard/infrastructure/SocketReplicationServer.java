@@ -0,0 +1,98 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.ReplicationBatch;
+import com.sportradar.interview.footballscoreboard.application.ReplicationSource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Serves the replication log of a leader to {@link SocketReplicationSource}s on the loopback interface, one
+ * thread per connected follower. Meant for testing replication across processes on one machine; it neither
+ * authenticates nor encrypts.
+ */
+public class SocketReplicationServer implements AutoCloseable {
+
+    private final ReplicationSource leader;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections;
+    private final Thread acceptor;
+
+    /**
+     * @param leader Source the requests are answered from, normally a replicating scoreboard.
+     * @param port   Port to listen on, or 0 for any free port.
+     */
+    public SocketReplicationServer(ReplicationSource leader, int port) {
+        this.leader = leader;
+        this.connections = ConcurrentHashMap.newKeySet();
+        try {
+            this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not listen on port " + port, e);
+        }
+        this.acceptor = Thread.ofPlatform().daemon().name("replication-acceptor").start(this::accept);
+    }
+
+    /**
+     * @return Port the server listens on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+            for (Socket connection : connections) {
+                connection.close();
+            }
+            acceptor.join();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close replication server", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connection.setTcpNoDelay(true);
+                connections.add(connection);
+                Thread.ofPlatform().daemon().name("replication-server").start(() -> serve(connection));
+            } catch (IOException e) {
+                // the server socket was closed
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+            while (true) {
+                long afterOffset = in.readLong();
+                int maxRecords = in.readInt();
+                long maxWaitMillis = in.readLong();
+                ReplicationBatch batch = leader.fetch(afterOffset, maxRecords, maxWaitMillis);
+                ReplicationWireFormat.writeBatch(out, batch);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the follower disconnected or the request failed; either way the follower reconnects and resumes
+        } finally {
+            connections.remove(connection);
+        }
+    }
+}
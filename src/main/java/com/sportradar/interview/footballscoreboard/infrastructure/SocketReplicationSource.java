@@ -0,0 +1,115 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.ReplicationBatch;
+import com.sportradar.interview.footballscoreboard.application.ReplicationSource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+
+/**
+ * Fetches the replication log from a {@link SocketReplicationServer}. The connection is opened on the first fetch
+ * and reopened on the next fetch after a failure; the follower's offset makes the leader resume or send a snapshot.
+ * A fetch fails if the leader does not answer within the requested wait plus a margin, so a leader that vanished
+ * without closing the connection can not block the follower.
+ */
+public class SocketReplicationSource implements ReplicationSource, AutoCloseable {
+
+    private static final long DEFAULT_TIMEOUT_MARGIN_MILLIS = 10_000;
+
+    private final String host;
+    private final int port;
+    private final long timeoutMarginMillis;
+    private Socket socket;
+    private DataInputStream in;
+    private DataOutputStream out;
+
+    /**
+     * @param host Host of the leader.
+     * @param port Port the leader's replication server listens on.
+     */
+    public SocketReplicationSource(String host, int port) {
+        this(host, port, DEFAULT_TIMEOUT_MARGIN_MILLIS);
+    }
+
+    /**
+     * @param host                Host of the leader.
+     * @param port                Port the leader's replication server listens on.
+     * @param timeoutMarginMillis Time allowed for connecting, and for an answer on top of the requested wait.
+     */
+    public SocketReplicationSource(String host, int port, long timeoutMarginMillis) {
+        if (timeoutMarginMillis <= 0) {
+            throw new IllegalArgumentException("Timeout margin must be positive.");
+        }
+        this.host = host;
+        this.port = port;
+        this.timeoutMarginMillis = timeoutMarginMillis;
+    }
+
+    /**
+     * @throws UncheckedIOException if the leader can not be reached.
+     */
+    @Override
+    public synchronized ReplicationBatch fetch(long afterOffset, int maxRecords, long maxWaitMillis) {
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("Max records must be positive.");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Max wait can not be negative.");
+        }
+        try {
+            if (socket == null) {
+                connect();
+            }
+            socket.setSoTimeout(millisOf(Math.min(maxWaitMillis, Integer.MAX_VALUE) + Math.min(timeoutMarginMillis, Integer.MAX_VALUE)));
+            ReplicationWireFormat.writeRequest(out, afterOffset, maxRecords, maxWaitMillis);
+            return ReplicationWireFormat.readBatch(in);
+        } catch (IOException e) {
+            disconnect();
+            throw new UncheckedIOException("Could not fetch from leader " + host + ":" + port, e);
+        } catch (IllegalArgumentException e) {
+            disconnect();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        disconnect();
+    }
+
+    private void connect() throws IOException {
+        Socket connection = new Socket();
+        try {
+            connection.connect(new InetSocketAddress(host, port), millisOf(timeoutMarginMillis));
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+        socket = connection;
+        socket.setTcpNoDelay(true);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    private void disconnect() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // the connection is abandoned either way
+            }
+            socket = null;
+        }
+    }
+
+    private static int millisOf(long millis) {
+        return (int) Math.min(Integer.MAX_VALUE, millis);
+    }
+}
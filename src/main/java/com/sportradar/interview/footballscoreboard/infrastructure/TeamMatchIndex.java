@@ -0,0 +1,112 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Live matches of each team, in a table indexed by the dense ids of a {@link TeamDictionary}. A team has an
+ * array of its matches, replaced as a whole on every change, so finding the match of a pair of team ids needs
+ * neither a key nor a boxed id and allocates nothing. Lookups are lock-free; changes are serialized.
+ */
+public class TeamMatchIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Match[] NO_MATCHES = new Match[0];
+
+    private volatile AtomicReferenceArray<Match[]> matchesByTeam;
+
+    public TeamMatchIndex() {
+        this.matchesByTeam = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param teamId Team id.
+     * @return Live matches of the team, possibly empty. The array must not be modified.
+     */
+    public Match[] matchesOf(int teamId) {
+        AtomicReferenceArray<Match[]> current = matchesByTeam;
+        Match[] matches = teamId < 0 || teamId >= current.length() ? null : current.get(teamId);
+        return matches == null ? NO_MATCHES : matches;
+    }
+
+    /**
+     * @param teamId1 One team id.
+     * @param teamId2 The other team id.
+     * @return The live match between both teams, or null.
+     */
+    public Match matchOf(int teamId1, int teamId2) {
+        Match[] matches1 = matchesOf(teamId1);
+        Match[] matches2 = matchesOf(teamId2);
+        boolean firstShorter = matches1.length <= matches2.length;
+        Match[] matches = firstShorter ? matches1 : matches2;
+        int opponentId = firstShorter ? teamId2 : teamId1;
+        for (Match match : matches) {
+            if (match.getHomeTeamId() == opponentId || match.getAwayTeamId() == opponentId) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param match Match that became live.
+     */
+    public synchronized void add(Match match) {
+        add(match.getHomeTeamId(), match);
+        add(match.getAwayTeamId(), match);
+    }
+
+    /**
+     * @param match Match that is no longer live.
+     */
+    public synchronized void remove(Match match) {
+        remove(match.getHomeTeamId(), match);
+        remove(match.getAwayTeamId(), match);
+    }
+
+    private void add(int teamId, Match match) {
+        if (teamId >= matchesByTeam.length()) {
+            grow(teamId);
+        }
+        Match[] matches = matchesOf(teamId);
+        Match[] grown = Arrays.copyOf(matches, matches.length + 1);
+        grown[matches.length] = match;
+        matchesByTeam.set(teamId, grown);
+    }
+
+    private void remove(int teamId, Match match) {
+        Match[] matches = matchesOf(teamId);
+        int index = 0;
+        while (index < matches.length && matches[index] != match) {
+            index++;
+        }
+        if (index == matches.length) {
+            return;
+        }
+        if (matches.length == 1) {
+            matchesByTeam.set(teamId, null);
+            return;
+        }
+        Match[] shrunk = new Match[matches.length - 1];
+        System.arraycopy(matches, 0, shrunk, 0, index);
+        System.arraycopy(matches, index + 1, shrunk, index, shrunk.length - index);
+        matchesByTeam.set(teamId, shrunk);
+    }
+
+    private void grow(int teamId) {
+        AtomicReferenceArray<Match[]> current = matchesByTeam;
+        int capacity = current.length();
+        while (capacity <= teamId) {
+            capacity *= 2;
+        }
+        AtomicReferenceArray<Match[]> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        matchesByTeam = grown;
+    }
+}
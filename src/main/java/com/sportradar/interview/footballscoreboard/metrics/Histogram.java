@@ -0,0 +1,104 @@
+package com.sportradar.interview.footballscoreboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Lock-free histogram of non-negative long values with log-linear buckets, in the style of HdrHistogram.
+ * Values below 128 are counted exactly; larger values fall into buckets whose width is at most 1/64 of their
+ * lower bound, so every reported value is within about 1.6% of a recorded one.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+
+    public Histogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.total = new LongAdder();
+    }
+
+    /**
+     * @param value Value to record; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        total.add(recorded);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+    }
+
+    /**
+     * @return Count, mean, percentiles and maximum of the values recorded so far.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        if (count == 0) {
+            return Snapshot.EMPTY;
+        }
+        return new Snapshot(count, (double) total.sum() / count,
+                valueAt(copy, count, 50.0), valueAt(copy, count, 90.0), valueAt(copy, count, 99.0),
+                valueAt(copy, count, 99.9), valueAt(copy, count, 100.0));
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) (value >>> shift) - SUB_BUCKET_HALF;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        long next = (subBucket + 1) << shift;
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+
+    private static long valueAt(long[] counts, long count, double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValueAt(i);
+            }
+        }
+        return highestValueAt(counts.length - 1);
+    }
+
+    /**
+     * @param count Number of recorded values.
+     * @param mean  Exact mean of the recorded values.
+     * @param p50   Median, as the highest value of its bucket.
+     * @param p90   90th percentile.
+     * @param p99   99th percentile.
+     * @param p999  99.9th percentile.
+     * @param max   Highest recorded value, as the highest value of its bucket.
+     */
+    public record Snapshot(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+
+        public static final Snapshot EMPTY = new Snapshot(0, 0.0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sportradar.interview.footballscoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * Point-in-time view of {@link ScoreBoardMetrics}.
+ *
+ * @param intervalNanos Time covered by the counters, since creation or the last reset.
+ * @param operations    Statistics of every operation called at least once.
+ * @param summarySizes  Distribution of the number of matches returned by summary calls.
+ * @param gauges        Current values of the registered gauges.
+ */
+public record MetricsSnapshot(long intervalNanos, Map<Operation, OperationStats> operations,
+                              Histogram.Snapshot summarySizes, Map<String, Long> gauges) {
+
+    /**
+     * @param calls     Number of calls.
+     * @param misses    Lookups that found no match.
+     * @param failures  Calls rejected with an exception.
+     * @param perSecond Calls per second over the interval.
+     * @param latency   Call latency in nanoseconds.
+     */
+    public record OperationStats(long calls, long misses, long failures, double perSecond, Histogram.Snapshot latency) {
+    }
+}
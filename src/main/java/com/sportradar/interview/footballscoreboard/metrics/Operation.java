@@ -0,0 +1,17 @@
+package com.sportradar.interview.footballscoreboard.metrics;
+
+public enum Operation {
+    START_GAME,
+    UPDATE_SCORE,
+    FINISH_GAME,
+    APPLY_BATCH,
+    GET_SUMMARY,
+    GET_CURRENT_MATCHES,
+    GET_MATCHES_OF_TEAM,
+    REPOSITORY_SAVE,
+    REPOSITORY_DELETE,
+    REPOSITORY_FIND_BY_TEAMS,
+    REPOSITORY_FIND_BY_TEAM,
+    REPOSITORY_FIND_BY_ID,
+    REPOSITORY_FIND_ALL
+}
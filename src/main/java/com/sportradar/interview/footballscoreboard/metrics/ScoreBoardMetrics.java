@@ -0,0 +1,123 @@
+package com.sportradar.interview.footballscoreboard.metrics;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Collects latency histograms, miss and failure counters, summary sizes and gauges from instrumented components.
+ * Recording can be switched off at runtime, after which instrumented calls cost a single volatile read.
+ */
+public class ScoreBoardMetrics {
+
+    static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final Map<Operation, Histogram> latencies;
+    private final Map<Operation, LongAdder> misses;
+    private final Map<Operation, LongAdder> failures;
+    private final Histogram summarySizes;
+    private final Map<String, LongSupplier> gauges;
+    private volatile boolean enabled;
+    private volatile long intervalStartNanos;
+
+    public ScoreBoardMetrics() {
+        this.latencies = new EnumMap<>(Operation.class);
+        this.misses = new EnumMap<>(Operation.class);
+        this.failures = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Histogram());
+            misses.put(operation, new LongAdder());
+            failures.put(operation, new LongAdder());
+        }
+        this.summarySizes = new Histogram();
+        this.gauges = new ConcurrentHashMap<>();
+        this.enabled = true;
+        this.intervalStartNanos = System.nanoTime();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Start timestamp to pass to {@link #stop(Operation, long)}, or a marker telling it to record nothing.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * @param operation The timed operation.
+     * @param start     Value returned by {@link #start()} before the operation.
+     */
+    public void stop(Operation operation, long start) {
+        if (start != NOT_TIMED) {
+            latencies.get(operation).record(System.nanoTime() - start);
+        }
+    }
+
+    public void recordMiss(Operation operation) {
+        if (enabled) {
+            misses.get(operation).increment();
+        }
+    }
+
+    public void recordFailure(Operation operation) {
+        if (enabled) {
+            failures.get(operation).increment();
+        }
+    }
+
+    public void recordSummarySize(int size) {
+        if (enabled) {
+            summarySizes.record(size);
+        }
+    }
+
+    /**
+     * @param name  Name under which the gauge is reported; registering it again replaces the previous one.
+     * @param gauge Read on every snapshot.
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * @return Current values of all metrics. Counters are not reset.
+     */
+    public MetricsSnapshot snapshot() {
+        long intervalNanos = System.nanoTime() - intervalStartNanos;
+        Map<Operation, MetricsSnapshot.OperationStats> operations = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            Histogram.Snapshot latency = latencies.get(operation).snapshot();
+            long operationMisses = misses.get(operation).sum();
+            long operationFailures = failures.get(operation).sum();
+            if (latency.count() > 0 || operationMisses > 0 || operationFailures > 0) {
+                double perSecond = intervalNanos == 0 ? 0.0 : latency.count() * 1_000_000_000.0 / intervalNanos;
+                operations.put(operation, new MetricsSnapshot.OperationStats(latency.count(), operationMisses, operationFailures, perSecond, latency));
+            }
+        }
+        Map<String, Long> gaugeValues = new LinkedHashMap<>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getAsLong()));
+        return new MetricsSnapshot(intervalNanos, operations, summarySizes.snapshot(), gaugeValues);
+    }
+
+    /**
+     * Clears every histogram and counter and starts a new interval. Gauges stay registered.
+     */
+    public void reset() {
+        latencies.values().forEach(Histogram::reset);
+        misses.values().forEach(LongAdder::reset);
+        failures.values().forEach(LongAdder::reset);
+        summarySizes.reset();
+        intervalStartNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,47 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Shape of the traffic of a simulated match day. Equal profiles always generate equal event streams.
+ *
+ * @param matches           Number of fixtures played.
+ * @param kickoffWaves      Number of kickoff times the fixtures are spread over.
+ * @param waveIntervalNanos Time between two kickoff waves.
+ * @param meanGoals         Mean number of goals per match.
+ * @param spikeShare        Share of the goals scored in the few goal spikes of their wave, from 0 to 1.
+ * @param correctionRate    Share of the goals disallowed shortly after being given, from 0 to 1.
+ * @param seed              Seed of the random generator.
+ */
+public record LoadProfile(int matches, int kickoffWaves, long waveIntervalNanos, double meanGoals,
+                          double spikeShare, double correctionRate, long seed) {
+
+    public LoadProfile {
+        if (matches < 0) {
+            throw new IllegalArgumentException("Number of matches can not be negative.");
+        }
+        if (kickoffWaves < 1) {
+            throw new IllegalArgumentException("At least one kickoff wave is required.");
+        }
+        if (waveIntervalNanos < 0) {
+            throw new IllegalArgumentException("Wave interval can not be negative.");
+        }
+        if (!(meanGoals >= 0 && meanGoals <= 20)) {
+            throw new IllegalArgumentException("Mean goals must be between 0 and 20.");
+        }
+        if (!(spikeShare >= 0 && spikeShare <= 1) || !(correctionRate >= 0 && correctionRate <= 1)) {
+            throw new IllegalArgumentException("Spike share and correction rate must be between 0 and 1.");
+        }
+    }
+
+    /**
+     * @param matches Number of fixtures played.
+     * @param seed    Seed of the random generator.
+     * @return A weekend league day: four overlapping kickoff waves, 2.7 goals a match, a quarter of them in
+     * spikes and one in twenty disallowed.
+     */
+    public static LoadProfile matchDay(int matches, long seed) {
+        return new LoadProfile(matches, 4, TimeUnit.MINUTES.toNanos(90), 2.7, 0.25, 0.05, seed);
+    }
+}
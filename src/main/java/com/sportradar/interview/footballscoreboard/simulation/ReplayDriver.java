@@ -0,0 +1,181 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.metrics.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Replays an event stream against a scoreboard and reports throughput, latency and checksums of the final
+ * state. With several threads the events are split into lanes by match, so the events of one match are
+ * replayed in stream order while different matches race, and the final state stays deterministic. A full
+ * match day ends with an empty board, so replay a prefix of the stream to compare boards in mid play.
+ */
+public class ReplayDriver {
+
+    /**
+     * Speedup that replays events back to back, ignoring their times.
+     */
+    public static final double UNPACED = Double.POSITIVE_INFINITY;
+
+    private final int threads;
+    private final double speedup;
+
+    public ReplayDriver() {
+        this(1, UNPACED);
+    }
+
+    /**
+     * @param threads Number of threads replaying events.
+     * @param speedup Factor by which the replay runs faster than the event times, or {@link #UNPACED}.
+     */
+    public ReplayDriver(int threads, double speedup) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one replay thread is required.");
+        }
+        if (!(speedup > 0)) {
+            throw new IllegalArgumentException("Speedup must be positive.");
+        }
+        this.threads = threads;
+        this.speedup = speedup;
+    }
+
+    /**
+     * @param events     Events ordered by time.
+     * @param scoreBoard Scoreboard to replay them against.
+     * @return Report of the replay.
+     */
+    public ReplayReport replay(List<TrafficEvent> events, ScoreBoard scoreBoard) {
+        List<List<TrafficEvent>> lanes = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            lanes.add(new ArrayList<>(events.size() / threads + 1));
+        }
+        for (TrafficEvent event : events) {
+            lanes.get(Math.floorMod(event.command().key().hashCode(), threads)).add(event);
+        }
+        long firstEventNanos = events.isEmpty() ? 0 : events.get(0).atNanos();
+        Histogram latency = new Histogram();
+        LongAdder failures = new LongAdder();
+        LongAdder outcomes = new LongAdder();
+
+        long start = System.nanoTime();
+        if (threads == 1) {
+            replayLane(lanes.get(0), scoreBoard, start, firstEventNanos, latency, failures, outcomes);
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> running = new ArrayList<>(threads);
+                for (List<TrafficEvent> lane : lanes) {
+                    running.add(executor.submit(() -> replayLane(lane, scoreBoard, start, firstEventNanos, latency, failures, outcomes)));
+                }
+                for (Future<?> lane : running) {
+                    lane.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Replay was interrupted.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Replay failed.", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        List<Match> summary = scoreBoard.getSummary();
+        return new ReplayReport(events.size(), failures.sum(), elapsed, latency.snapshot(), outcomes.sum(),
+                summary.size(), stateChecksumOf(scoreBoard.getCurrentMatches()), summaryChecksumOf(summary));
+    }
+
+    /**
+     * @param matches Matches on a board.
+     * @return Checksum of their teams and scores, independent of their order.
+     */
+    public static long stateChecksumOf(Collection<Match> matches) {
+        long checksum = 0;
+        for (Match match : matches) {
+            long teams = ((long) match.getHomeTeam().hashCode() << 32) ^ (match.getAwayTeam().hashCode() & 0xFFFFFFFFL);
+            long score = ((long) match.getHomeScore() << 32) | match.getAwayScore();
+            checksum += mix(mix(teams) ^ score);
+        }
+        return checksum;
+    }
+
+    /**
+     * @param summary Matches in summary order.
+     * @return Checksum of the sequence of their total scores, which every correct summary order agrees on.
+     */
+    public static long summaryChecksumOf(List<Match> summary) {
+        long checksum = 0;
+        for (Match match : summary) {
+            checksum = mix(checksum ^ match.getTotalScore());
+        }
+        return checksum;
+    }
+
+    private void replayLane(List<TrafficEvent> lane, ScoreBoard scoreBoard, long start, long firstEventNanos,
+                            Histogram latency, LongAdder failures, LongAdder outcomes) {
+        for (TrafficEvent event : lane) {
+            if (speedup != UNPACED) {
+                awaitDue(start + (long) ((event.atNanos() - firstEventNanos) / speedup));
+            }
+            long begin = System.nanoTime();
+            boolean failed = false;
+            try {
+                apply(event.command(), scoreBoard);
+            } catch (IllegalArgumentException e) {
+                failed = true;
+            }
+            latency.record(System.nanoTime() - begin);
+            if (failed) {
+                failures.increment();
+            }
+            // a sum, so lanes may finish in any order
+            outcomes.add(mix(hashOf(event.command()) + (failed ? 1 : 0)));
+        }
+    }
+
+    private static void apply(ScoreBoardCommand command, ScoreBoard scoreBoard) {
+        switch (command) {
+            case ScoreBoardCommand.StartGame start -> scoreBoard.startGame(start.homeTeam(), start.awayTeam());
+            case ScoreBoardCommand.UpdateScore update ->
+                    scoreBoard.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+            case ScoreBoardCommand.FinishGame finish -> scoreBoard.finishGame(finish.homeTeam(), finish.awayTeam());
+        }
+    }
+
+    private static long hashOf(ScoreBoardCommand command) {
+        long hash = ((long) command.homeTeam().hashCode() << 32) ^ (command.awayTeam().hashCode() & 0xFFFFFFFFL);
+        long kind = switch (command) {
+            case ScoreBoardCommand.StartGame start -> 1;
+            case ScoreBoardCommand.UpdateScore update -> ((long) update.homeScore() << 32 | update.awayScore()) * 4 + 2;
+            case ScoreBoardCommand.FinishGame finish -> 3;
+        };
+        return mix(mix(hash) + kind);
+    }
+
+    private static void awaitDue(long dueNanos) {
+        long remaining;
+        while ((remaining = dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // finalizer of SplitMix64
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+}
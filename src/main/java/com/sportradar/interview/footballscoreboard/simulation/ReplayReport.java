@@ -0,0 +1,36 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.metrics.Histogram;
+
+
+/**
+ * Outcome of replaying an event stream. Two scoreboards that handled the same stream correctly report the same
+ * live matches and checksums, whatever their throughput.
+ *
+ * @param events          Number of events replayed.
+ * @param failures        Events the scoreboard rejected.
+ * @param elapsedNanos    Wall-clock duration of the replay.
+ * @param latency         Latency of single events in nanoseconds.
+ * @param outcomeChecksum Checksum of which events succeeded and which were rejected, independent of order.
+ * @param liveMatches     Number of matches on the board after the replay.
+ * @param stateChecksum   Checksum of the teams and scores on the board after the replay, independent of order.
+ * @param summaryChecksum Checksum of the total scores along the summary after the replay.
+ */
+public record ReplayReport(long events, long failures, long elapsedNanos, Histogram.Snapshot latency,
+                           long outcomeChecksum, int liveMatches, long stateChecksum, long summaryChecksum) {
+
+    /**
+     * @return Events replayed per second of wall-clock time.
+     */
+    public double eventsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : events * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d events (%d failed) in %.1f ms, %.0f events/s, latency p50 %d ns p99 %d ns p99.9 %d ns max %d ns, "
+                        + "outcomes %016x, %d live matches, state %016x, summary %016x",
+                events, failures, elapsedNanos / 1e6, eventsPerSecond(), latency.p50(), latency.p99(), latency.p999(),
+                latency.max(), outcomeChecksum, liveMatches, stateChecksum, summaryChecksum);
+    }
+}
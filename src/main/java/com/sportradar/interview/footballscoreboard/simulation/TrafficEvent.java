@@ -0,0 +1,20 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+
+
+/**
+ * @param atNanos Time of the event, relative to the start of the stream.
+ * @param command Command sent to the scoreboard.
+ */
+public record TrafficEvent(long atNanos, ScoreBoardCommand command) {
+
+    public TrafficEvent {
+        if (atNanos < 0) {
+            throw new IllegalArgumentException("Event time can not be negative.");
+        }
+        if (command == null) {
+            throw new IllegalArgumentException("Command can not be null.");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Generates the event stream of a simulated match day. Fixtures kick off in waves, each within a short burst,
+ * goals are spread over the playing time with a share of them packed into a few spikes per wave, some goals
+ * are disallowed again, and every match of a wave ends within the stoppage time of its full-time whistle.
+ * The stream depends on the profile only, so a seed reproduces it exactly on any JVM.
+ */
+public final class TrafficGenerator {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final long HALF = 45 * MINUTE;
+    private static final long HALF_TIME_BREAK = 15 * MINUTE;
+    private static final long KICKOFF_BURST = TimeUnit.SECONDS.toNanos(2);
+    private static final long SPIKE_WIDTH = TimeUnit.SECONDS.toNanos(30);
+    private static final long MAX_STOPPAGE = 6 * MINUTE;
+    private static final int SPIKES_PER_WAVE = 3;
+
+    // score changes of one match, applied in time order
+    private record ScoreChange(long atNanos, boolean home, int delta) {
+    }
+
+    private TrafficGenerator() {
+    }
+
+    /**
+     * @param profile Shape of the traffic.
+     * @return Events ordered by time; events at the same time keep the order in which they were generated.
+     */
+    public static List<TrafficEvent> generate(LoadProfile profile) {
+        SplittableRandom random = new SplittableRandom(profile.seed());
+        long[][] spikes = new long[profile.kickoffWaves()][SPIKES_PER_WAVE];
+        for (long[] waveSpikes : spikes) {
+            for (int i = 0; i < SPIKES_PER_WAVE; i++) {
+                waveSpikes[i] = random.nextLong(2 * HALF - SPIKE_WIDTH);
+            }
+        }
+
+        List<TrafficEvent> events = new ArrayList<>();
+        for (int match = 0; match < profile.matches(); match++) {
+            int wave = match % profile.kickoffWaves();
+            generateMatch(profile, random, match, wave * profile.waveIntervalNanos(), spikes[wave], events);
+        }
+        events.sort(Comparator.comparingLong(TrafficEvent::atNanos));
+        return events;
+    }
+
+    /**
+     * @param match Fixture number.
+     * @return Home team of the fixture.
+     */
+    public static String homeTeamOf(int match) {
+        return "Club " + (2 * match);
+    }
+
+    /**
+     * @param match Fixture number.
+     * @return Away team of the fixture.
+     */
+    public static String awayTeamOf(int match) {
+        return "Club " + (2 * match + 1);
+    }
+
+    private static void generateMatch(LoadProfile profile, SplittableRandom random, int match, long waveKickoff,
+                                      long[] spikes, List<TrafficEvent> events) {
+        String homeTeam = homeTeamOf(match);
+        String awayTeam = awayTeamOf(match);
+        long kickoff = waveKickoff + random.nextLong(KICKOFF_BURST);
+        long fullTime = kickoff + 2 * HALF + HALF_TIME_BREAK + random.nextLong(MAX_STOPPAGE);
+
+        List<ScoreChange> changes = new ArrayList<>();
+        int goals = poisson(random, profile.meanGoals());
+        for (int goal = 0; goal < goals; goal++) {
+            long playingTime = random.nextDouble() < profile.spikeShare()
+                    ? spikes[random.nextInt(SPIKES_PER_WAVE)] + random.nextLong(SPIKE_WIDTH)
+                    : random.nextLong(2 * HALF);
+            long scoredAt = kickoff + playingTime + (playingTime < HALF ? 0 : HALF_TIME_BREAK);
+            boolean home = random.nextBoolean();
+            changes.add(new ScoreChange(scoredAt, home, 1));
+            if (random.nextDouble() < profile.correctionRate()) {
+                long disallowedAt = scoredAt + MINUTE + random.nextLong(2 * MINUTE);
+                if (disallowedAt < fullTime) {
+                    changes.add(new ScoreChange(disallowedAt, home, -1));
+                }
+            }
+        }
+        changes.sort(Comparator.comparingLong(ScoreChange::atNanos));
+
+        events.add(new TrafficEvent(kickoff, ScoreBoardCommand.startGame(homeTeam, awayTeam)));
+        int homeScore = 0;
+        int awayScore = 0;
+        for (ScoreChange change : changes) {
+            if (change.home()) {
+                homeScore += change.delta();
+            } else {
+                awayScore += change.delta();
+            }
+            events.add(new TrafficEvent(change.atNanos(), ScoreBoardCommand.updateScore(homeTeam, awayTeam, homeScore, awayScore)));
+        }
+        events.add(new TrafficEvent(fullTime, ScoreBoardCommand.finishGame(homeTeam, awayTeam)));
+    }
+
+    private static int poisson(SplittableRandom random, double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Reads and writes event streams as tab-separated text, one event per line:
+ * <pre>
+ *     atNanos  START   homeTeam  awayTeam
+ *     atNanos  UPDATE  homeTeam  awayTeam  homeScore  awayScore
+ *     atNanos  FINISH  homeTeam  awayTeam
+ * </pre>
+ * Team names must not contain tabs or line breaks. Empty lines and lines starting with # are ignored, so
+ * recordings of real traffic can be annotated by hand.
+ */
+public final class TrafficRecording {
+
+    private static final String SEPARATOR = "\t";
+
+    private TrafficRecording() {
+    }
+
+    /**
+     * @param events Events to record.
+     * @param file   File to write, replaced if it exists.
+     */
+    public static void write(List<TrafficEvent> events, Path file) {
+        List<String> lines = new ArrayList<>(events.size());
+        for (TrafficEvent event : events) {
+            lines.add(format(event));
+        }
+        try {
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write recording " + file, e);
+        }
+    }
+
+    /**
+     * @param file Recording to read.
+     * @return Events in the order they were recorded.
+     */
+    public static List<TrafficEvent> read(Path file) {
+        List<TrafficEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    events.add(parse(line, lineNumber));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read recording " + file, e);
+        }
+        return events;
+    }
+
+    static String format(TrafficEvent event) {
+        return switch (event.command()) {
+            case ScoreBoardCommand.StartGame start ->
+                    String.join(SEPARATOR, Long.toString(event.atNanos()), "START", start.homeTeam(), start.awayTeam());
+            case ScoreBoardCommand.UpdateScore update ->
+                    String.join(SEPARATOR, Long.toString(event.atNanos()), "UPDATE", update.homeTeam(), update.awayTeam(),
+                            Integer.toString(update.homeScore()), Integer.toString(update.awayScore()));
+            case ScoreBoardCommand.FinishGame finish ->
+                    String.join(SEPARATOR, Long.toString(event.atNanos()), "FINISH", finish.homeTeam(), finish.awayTeam());
+        };
+    }
+
+    static TrafficEvent parse(String line, int lineNumber) {
+        String[] fields = line.split(SEPARATOR, -1);
+        try {
+            ScoreBoardCommand command = switch (fields[1]) {
+                case "START" -> {
+                    expectFields(fields, 4, lineNumber);
+                    yield ScoreBoardCommand.startGame(fields[2], fields[3]);
+                }
+                case "UPDATE" -> {
+                    expectFields(fields, 6, lineNumber);
+                    yield ScoreBoardCommand.updateScore(fields[2], fields[3], Integer.parseInt(fields[4]), Integer.parseInt(fields[5]));
+                }
+                case "FINISH" -> {
+                    expectFields(fields, 4, lineNumber);
+                    yield ScoreBoardCommand.finishGame(fields[2], fields[3]);
+                }
+                default -> throw new IllegalArgumentException("Unknown event type " + fields[1] + " on line " + lineNumber + ".");
+            };
+            return new TrafficEvent(Long.parseLong(fields[0]), command);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed event on line " + lineNumber + ".", e);
+        }
+    }
+
+    private static void expectFields(String[] fields, int count, int lineNumber) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " fields on line " + lineNumber + " but found " + fields.length + ".");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncScoreBoardTest {
+
+    private ScoreBoard scoreBoard;
+    private AsyncScoreBoard asyncScoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository());
+        asyncScoreBoard = new AsyncScoreBoard(scoreBoard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncScoreBoard.close();
+    }
+
+    @Test
+    @DisplayName("Should apply commands for the same match in submission order")
+    void shouldApplyCommandsInOrder() throws Exception {
+        // given
+        List<Integer> appliedScores = Collections.synchronizedList(new ArrayList<>());
+        ScoreBoard recordingScoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository()) {
+            @Override
+            public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                appliedScores.add(homeScore);
+                return super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            }
+        };
+        asyncScoreBoard.close();
+        asyncScoreBoard = new AsyncScoreBoard(recordingScoreBoard);
+        asyncScoreBoard.startGame("Brazil", "Argentina");
+        List<CompletableFuture<Match>> updates = new ArrayList<>();
+
+        // when
+        for (int goals = 1; goals <= 1_000; goals++) {
+            updates.add(asyncScoreBoard.updateScore("Brazil", "Argentina", goals, 0));
+        }
+        CompletableFuture<Void> finish = asyncScoreBoard.finishGame("Argentina", "Brazil");
+        finish.get(10, TimeUnit.SECONDS);
+
+        // then
+        for (CompletableFuture<Match> update : updates) {
+            assertTrue(update.isDone() && !update.isCompletedExceptionally());
+        }
+        assertEquals(1_000, appliedScores.size());
+        for (int i = 0; i < appliedScores.size(); i++) {
+            assertEquals(i + 1, appliedScores.get(i).intValue());
+        }
+        assertTrue(recordingScoreBoard.getCurrentMatches().isEmpty());
+        assertEquals(0, asyncScoreBoard.getBusyMatches());
+    }
+
+    @Test
+    @DisplayName("Should run commands for different matches in parallel")
+    void shouldRunDifferentMatchesInParallel() throws Exception {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        ScoreBoard blockingScoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository()) {
+            @Override
+            public Match startGame(String homeTeam, String awayTeam) {
+                if (homeTeam.equals("Brazil")) {
+                    try {
+                        blocked.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.startGame(homeTeam, awayTeam);
+            }
+        };
+        try (AsyncScoreBoard board = new AsyncScoreBoard(blockingScoreBoard)) {
+            CompletableFuture<Match> slow = board.startGame("Brazil", "Argentina");
+            CompletableFuture<Match> queuedBehindSlow = board.updateScore("Brazil", "Argentina", 1, 0);
+
+            // when
+            Match other = board.startGame("Spain", "Italy").get(10, TimeUnit.SECONDS);
+
+            // then
+            assertEquals("Spain", other.getHomeTeam());
+            assertTrue(!slow.isDone() && !queuedBehindSlow.isDone());
+            blocked.countDown();
+            assertEquals(1, queuedBehindSlow.get(10, TimeUnit.SECONDS).getHomeScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the future of a rejected command and keep processing the match")
+    void shouldContinueAfterFailedCommand() throws Exception {
+        // when
+        CompletableFuture<Match> rejected = asyncScoreBoard.updateScore("Brazil", "Argentina", 1, 0);
+        asyncScoreBoard.startGame("Brazil", "Argentina");
+        Match updated = asyncScoreBoard.updateScore("Brazil", "Argentina", 2, 0).get(10, TimeUnit.SECONDS);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        assertEquals(2, updated.getHomeScore());
+    }
+
+    @Test
+    @DisplayName("Should order calls made with a match id")
+    void shouldOrderCallsById() throws Exception {
+        // given
+        long matchId = asyncScoreBoard.startGame("Brazil", "Argentina").get(10, TimeUnit.SECONDS).getId();
+
+        // when
+        for (int goals = 1; goals <= 100; goals++) {
+            asyncScoreBoard.updateScore(matchId, goals, goals);
+        }
+        List<Match> summary = asyncScoreBoard.updateScore(matchId, 7, 7)
+                .thenCompose(ignored -> asyncScoreBoard.getSummary())
+                .get(10, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(14, summary.get(0).getTotalScore());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid team names and commands after close")
+    void shouldRejectInvalidAndLateCommands() {
+        // when
+        CompletableFuture<Match> invalid = asyncScoreBoard.startGame(null, "Argentina");
+        asyncScoreBoard.close();
+        CompletableFuture<Match> late = asyncScoreBoard.startGame("Brazil", "Argentina");
+
+        // then
+        assertTrue(invalid.isCompletedExceptionally());
+        assertTrue(late.isCompletedExceptionally());
+    }
+}
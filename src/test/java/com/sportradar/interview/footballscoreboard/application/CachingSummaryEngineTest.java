@@ -0,0 +1,142 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.OffHeapMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CachingSummaryEngineTest {
+
+    private CachingSummaryEngine summaryEngine;
+    private ScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        MatchRepository matchRepository = new HashIndexedMatchRepository();
+        summaryEngine = new CachingSummaryEngine(new SortingSummaryEngine(matchRepository));
+        scoreBoard = new InMemoryScoreBoard(matchRepository, summaryEngine);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache until the order can change")
+    void shouldServeRepeatedReadsFromCache() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+
+        // when
+        scoreBoard.getSummary();
+        scoreBoard.getSummary();
+        scoreBoard.getSummary(1);
+
+        // then
+        assertEquals(1, summaryEngine.getCacheMisses());
+        assertEquals(2, summaryEngine.getCacheHits());
+    }
+
+    @Test
+    @DisplayName("Should recompute after every start, score update and finish")
+    void shouldInvalidateOnEveryChange() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Mexico", "Canada", 1, 0);
+        scoreBoard.getSummary();
+
+        // when
+        scoreBoard.updateScore("Mexico", "Canada", 0, 1);
+        List<Match> sameTotal = scoreBoard.getSummary();
+        scoreBoard.updateScore("Spain", "Brazil", 2, 0);
+        List<Match> newLeader = scoreBoard.getSummary();
+        scoreBoard.finishGame("Spain", "Brazil");
+        List<Match> afterFinish = scoreBoard.getSummary();
+
+        // then
+        assertEquals("Mexico 0 - Canada 1", sameTotal.get(0).toString());
+        assertEquals("Spain 2 - Brazil 0", newLeader.get(0).toString());
+        assertEquals(1, afterFinish.size());
+        assertEquals(4, summaryEngine.getCacheMisses());
+        assertEquals(0, summaryEngine.getCacheHits());
+    }
+
+    @Test
+    @DisplayName("Should show a corrected score keeping the total on a repository returning detached copies")
+    void shouldShowCorrectedScoreOfDetachedCopies() {
+        // given
+        MatchRepository offHeapRepository = new OffHeapMatchRepository();
+        ScoreBoard offHeapScoreBoard = new InMemoryScoreBoard(offHeapRepository,
+                new CachingSummaryEngine(new SortingSummaryEngine(offHeapRepository)));
+        offHeapScoreBoard.startGame("Mexico", "Canada");
+        offHeapScoreBoard.updateScore("Mexico", "Canada", 1, 0);
+        offHeapScoreBoard.getSummary();
+
+        // when
+        offHeapScoreBoard.updateScore("Mexico", "Canada", 0, 1);
+
+        // then
+        assertEquals("Mexico 0 - Canada 1", offHeapScoreBoard.getSummary().get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should page through the cached summary")
+    void shouldPageThroughCachedSummary() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            scoreBoard.startGame("Cache Home " + i, "Cache Away " + i);
+            scoreBoard.updateScore("Cache Home " + i, "Cache Away " + i, i, 0);
+        }
+
+        // when
+        SummaryPage firstPage = scoreBoard.getSummary(null, 2);
+        SummaryPage secondPage = scoreBoard.getSummary(firstPage.nextCursor(), 2);
+        SummaryPage lastPage = scoreBoard.getSummary(secondPage.nextCursor(), 2);
+
+        // then
+        assertEquals("Cache Home 4 4 - Cache Away 4 0", firstPage.matches().get(0).toString());
+        assertEquals("Cache Home 2 2 - Cache Away 2 0", secondPage.matches().get(0).toString());
+        assertEquals(1, lastPage.matches().size());
+        assertEquals(1, summaryEngine.getCacheMisses());
+    }
+
+    @Test
+    @DisplayName("Should sort once for concurrent readers between two goals")
+    void shouldShareRecomputationBetweenConcurrentReaders() throws Exception {
+        // given
+        for (int i = 0; i < 1_000; i++) {
+            scoreBoard.startGame("Reader Home " + i, "Reader Away " + i);
+        }
+        int readers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        List<Future<List<Match>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < readers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return scoreBoard.getSummary();
+            }));
+        }
+        start.countDown();
+        for (Future<List<Match>> result : results) {
+            assertEquals(1_000, result.get().size());
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, summaryEngine.getCacheMisses());
+        assertEquals(readers - 1, summaryEngine.getCacheHits());
+    }
+}
@@ -0,0 +1,141 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.InMemoryMatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentScoreBoardStressTest {
+
+    private static final int THREADS = 8;
+    private static final int FIXTURES = 200;
+
+    @Test
+    @DisplayName("Should start every fixture exactly once when threads race to start the same games")
+    void shouldNotStartDuplicateGames() throws Exception {
+        for (MatchRepository matchRepository : List.of(new InMemoryMatchRepository(), new HashIndexedMatchRepository())) {
+            // given
+            ScoreBoard scoreBoard = new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine());
+            AtomicInteger started = new AtomicInteger();
+
+            // when
+            runConcurrently(thread -> {
+                for (int i = 0; i < FIXTURES; i++) {
+                    try {
+                        if (thread % 2 == 0) {
+                            scoreBoard.startGame("Home " + i, "Away " + i);
+                        } else {
+                            scoreBoard.startGame("AWAY " + i, "home " + i);
+                        }
+                        started.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // another thread won the race
+                    }
+                }
+            });
+
+            // then
+            assertEquals(FIXTURES, started.get());
+            assertEquals(FIXTURES, matchRepository.findAll().size());
+            assertEquals(FIXTURES, scoreBoard.getSummary().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply every update of every fixture without losing or tearing any of them")
+    void shouldNotLoseUpdates() throws Exception {
+        // given
+        MatchRepository matchRepository = new HashIndexedMatchRepository();
+        ScoreBoard scoreBoard = new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine());
+        for (int i = 0; i < FIXTURES; i++) {
+            scoreBoard.startGame("Home " + i, "Away " + i);
+        }
+
+        // when
+        runConcurrently(thread -> {
+            for (int goals = 1; goals <= 100; goals++) {
+                for (int i = thread; i < FIXTURES; i += THREADS) {
+                    scoreBoard.updateScore("Home " + i, "Away " + i, goals, goals);
+                }
+                scoreBoard.updateScore("Home 0", "Away 0", goals, goals);
+            }
+        });
+
+        // then
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(FIXTURES, summary.size());
+        for (Match match : summary) {
+            assertEquals(100, match.getHomeScore(), match.toString());
+            assertEquals(100, match.getAwayScore(), match.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep repository and summary consistent while fixtures are started and finished in parallel")
+    void shouldStartAndFinishInParallel() throws Exception {
+        // given
+        MatchRepository matchRepository = new HashIndexedMatchRepository();
+        ScoreBoard scoreBoard = new InMemoryScoreBoard(matchRepository, new IncrementalSummaryEngine());
+
+        // when
+        runConcurrently(thread -> {
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < 20; i++) {
+                    long matchId = scoreBoard.startGame("Thread " + thread + " Home " + i, "Thread " + thread + " Away " + i).getId();
+                    scoreBoard.updateScore(matchId, round, i);
+                }
+                for (int i = 0; i < 20; i++) {
+                    scoreBoard.finishGame("Thread " + thread + " Away " + i, "Thread " + thread + " Home " + i);
+                }
+            }
+            scoreBoard.startGame("Thread " + thread + " Home", "Thread " + thread + " Away");
+        });
+
+        // then
+        assertEquals(THREADS, matchRepository.findAll().size());
+        assertEquals(THREADS, scoreBoard.getSummary().size());
+        assertTrue(scoreBoard.getSummary().stream().allMatch(match -> match.getTotalScore() == 0));
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadIndex = thread;
+                Callable<Void> callable = () -> {
+                    start.await();
+                    task.run(threadIndex);
+                    return null;
+                };
+                futures.add(executor.submit(callable));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,146 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConflatingIngestQueueTest {
+
+    private ScoreBoard scoreBoard;
+    private ConflatingIngestQueue ingestQueue;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository());
+        ingestQueue = new ConflatingIngestQueue(scoreBoard, 2);
+    }
+
+    @Test
+    @DisplayName("Should apply only the latest pending update of a match")
+    void shouldConflatePendingUpdates() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        ingestQueue.submit("Brazil", "Argentina", 1, 0);
+        ingestQueue.submit("Brazil", "Argentina", 2, 0);
+        ingestQueue.submit("Brazil", "Argentina", 1, 0);
+
+        // when
+        int drained = ingestQueue.drain();
+
+        // then
+        assertEquals(1, drained);
+        assertEquals(1, scoreBoard.getSummary().get(0).getHomeScore());
+        IngestStats stats = ingestQueue.getStats();
+        assertEquals(3, stats.submitted());
+        assertEquals(2, stats.conflated());
+        assertEquals(1, stats.applied());
+        assertEquals(2.0 / 3, stats.conflationRatio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should drain at most max batch size updates at a time")
+    void shouldDrainInBatches() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        scoreBoard.startGame("Spain", "Italy");
+        scoreBoard.startGame("Germany", "France");
+        ingestQueue.submit("Brazil", "Argentina", 1, 0);
+        ingestQueue.submit("Spain", "Italy", 0, 1);
+        ingestQueue.submit("Germany", "France", 2, 2);
+
+        // when
+        int firstBatch = ingestQueue.drain();
+        int secondBatch = ingestQueue.drain();
+
+        // then
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        assertEquals(0, ingestQueue.getPendingCount());
+        assertEquals(2, ingestQueue.getStats().batches());
+        assertEquals(4, scoreBoard.getSummary().get(0).getTotalScore());
+    }
+
+    @Test
+    @DisplayName("Should count updates for unknown matches as rejected and still apply the rest of the batch")
+    void shouldRejectUpdatesForUnknownMatches() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        ingestQueue.submit("Spain", "Italy", 1, 0);
+        ingestQueue.submit("Brazil", "Argentina", 3, 1);
+
+        // when
+        ingestQueue.drain();
+
+        // then
+        assertEquals(4, scoreBoard.getSummary().get(0).getTotalScore());
+        assertEquals(1, ingestQueue.getStats().applied());
+        assertEquals(1, ingestQueue.getStats().rejected());
+    }
+
+    @Test
+    @DisplayName("Should count unexpected scoreboard failures and keep draining")
+    void shouldKeepDrainingAfterUnexpectedFailure() {
+        // given
+        ScoreBoard failingBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository()) {
+            @Override
+            public List<Match> applyBatch(List<ScoreBoardCommand> commands) {
+                throw new IllegalStateException("Batch failed.");
+            }
+
+            @Override
+            public Match updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+                if (homeTeam.equals("Faulty")) {
+                    throw new IllegalStateException("Update failed.");
+                }
+                return super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            }
+        };
+        failingBoard.startGame("Faulty", "Argentina");
+        failingBoard.startGame("Brazil", "Spain");
+        ConflatingIngestQueue failingQueue = new ConflatingIngestQueue(failingBoard, 2);
+        failingQueue.start();
+
+        // when
+        failingQueue.submit("Faulty", "Argentina", 1, 0);
+        failingQueue.submit("Brazil", "Spain", 1, 0);
+        failingQueue.close();
+
+        // then
+        assertEquals(1, failingQueue.getStats().failed());
+        assertEquals(1, failingQueue.getStats().applied());
+        assertEquals(1, failingBoard.getSummary().get(0).getHomeScore());
+    }
+
+    @Test
+    @DisplayName("Should apply everything submitted before close when running on its own thread")
+    void shouldFlushOnClose() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        ingestQueue.start();
+
+        // when
+        for (int goals = 1; goals <= 1000; goals++) {
+            ingestQueue.submit("Brazil", "Argentina", goals, 0);
+        }
+        ingestQueue.close();
+
+        // then
+        assertEquals(1000, scoreBoard.getSummary().get(0).getHomeScore());
+        IngestStats stats = ingestQueue.getStats();
+        assertEquals(1000, stats.applied() + stats.conflated());
+    }
+
+    @Test
+    @DisplayName("Should reject negative scores on submit")
+    void shouldRejectNegativeScores() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> ingestQueue.submit("Brazil", "Argentina", -1, 0));
+    }
+}
@@ -2,11 +2,13 @@ package com.sportradar.interview.footballscoreboard.application;
 
 import com.sportradar.interview.footballscoreboard.domain.Match;
 import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
 import com.sportradar.interview.footballscoreboard.infrastructure.InMemoryMatchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class InMemoryScoreBoardTest {
 
@@ -217,4 +220,251 @@ public class InMemoryScoreBoardTest {
         assertTrue(summary.get(0).getStartTime().isAfter(summary.get(1).getStartTime()));
         assertTrue(summary.get(3).getStartTime().isAfter(summary.get(4).getStartTime()));
     }
+
+    @Test
+    @DisplayName("Should return only the requested number of top games")
+    void shouldReturnLimitedSummary() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", 0, 5);
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 10, 2);
+        scoreBoard.startGame("Germany", "France");
+
+        // when
+        List<Match> summary = scoreBoard.getSummary(2);
+
+        // then
+        assertEquals(2, summary.size());
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.getSummary(-1));
+    }
+
+    @Test
+    @DisplayName("Should apply a batch of commands and return a result per command")
+    void shouldApplyBatch() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+
+        // when
+        List<Match> results = scoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.startGame("Spain", "Italy"),
+                ScoreBoardCommand.updateScore("Spain", "Italy", 1, 0),
+                ScoreBoardCommand.updateScore("Argentina", "Brazil", 0, 2),
+                ScoreBoardCommand.finishGame("Brazil", "Argentina")));
+
+        // then
+        assertEquals(4, results.size());
+        assertEquals("Spain", results.get(0).getHomeTeam());
+        assertEquals(1, results.get(1).getTotalScore());
+        assertEquals(2, results.get(3).getTotalScore());
+        assertEquals(1, scoreBoard.getCurrentMatches().size());
+        assertEquals("Spain", scoreBoard.getSummary().get(0).getHomeTeam());
+        assertFalse(matchRepository.findByTeams("Brazil", "Argentina").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should apply no command of a batch when any command is invalid")
+    void shouldRejectWholeBatch() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> scoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.updateScore("Brazil", "Argentina", 1, 0),
+                ScoreBoardCommand.startGame("Spain", "Italy"),
+                ScoreBoardCommand.finishGame("Brazil", "Argentina"),
+                ScoreBoardCommand.updateScore("Brazil", "Argentina", 2, 0))));
+
+        // then
+        assertTrue(exception.getMessage().contains("command 3"));
+        assertEquals(1, scoreBoard.getCurrentMatches().size());
+        assertEquals(0, scoreBoard.getSummary().get(0).getTotalScore());
+        assertFalse(matchRepository.findByTeams("Spain", "Italy").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should allow a game to be finished and started again within one batch")
+    void shouldRestartGameWithinBatch() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        scoreBoard.updateScore("Brazil", "Argentina", 3, 3);
+
+        // when
+        scoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.finishGame("Brazil", "Argentina"),
+                ScoreBoardCommand.startGame("Argentina", "Brazil")));
+
+        // then
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(1, summary.size());
+        assertEquals("Argentina", summary.get(0).getHomeTeam());
+        assertEquals(0, summary.get(0).getTotalScore());
+    }
+
+    @Test
+    @DisplayName("Should restore a game finished by a failed batch under its original id")
+    void shouldRestoreFinishedGameOfFailedBatch() {
+        // given
+        ScoreBoard failingScoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository() {
+            @Override
+            public boolean saveIfAbsent(Match match) {
+                if (match.getHomeTeam().equals("Spain")) {
+                    throw new IllegalStateException("Storage is full.");
+                }
+                return super.saveIfAbsent(match);
+            }
+        });
+        long matchId = failingScoreBoard.startGame("Brazil", "Argentina").getId();
+        failingScoreBoard.updateScore(matchId, 1, 1);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> failingScoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.finishGame("Brazil", "Argentina"),
+                ScoreBoardCommand.startGame("Spain", "Italy"))));
+
+        // then
+        assertEquals(matchId, failingScoreBoard.getCurrentMatches().get(0).getId());
+        assertEquals(3, failingScoreBoard.updateScore(matchId, 2, 1).getTotalScore());
+        assertEquals(1, failingScoreBoard.getSummary().size());
+    }
+
+    @Test
+    @DisplayName("Should not allocate when updating scores of live games on a hash indexed repository")
+    void shouldUpdateScoreWithoutAllocating() {
+        // given
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ScoreBoard hashIndexedScoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository());
+        String[] homeTeams = {"Brazil", "Spain", "Germany"};
+        String[] awayTeams = {"Argentina", "Italy", "France"};
+        for (int i = 0; i < homeTeams.length; i++) {
+            hashIndexedScoreBoard.startGame(homeTeams[i], awayTeams[i]);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            hashIndexedScoreBoard.updateScore(homeTeams[i % 3], awayTeams[i % 3], i % 7, i % 5);
+        }
+
+        // when
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            hashIndexedScoreBoard.updateScore(homeTeams[i % 3], awayTeams[i % 3], i % 7, i % 5);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        // then
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes for 100 000 updates");
+    }
+
+    @Test
+    @DisplayName("Should update and finish a game by the id returned from startGame")
+    void shouldUpdateAndFinishGameById() {
+        // given
+        long matchId = scoreBoard.startGame("Brazil", "Argentina").getId();
+
+        // when
+        Match updatedMatch = scoreBoard.updateScore(matchId, 2, 1);
+        scoreBoard.finishGame(matchId);
+
+        // then
+        assertEquals(3, updatedMatch.getTotalScore());
+        assertTrue(scoreBoard.getCurrentMatches().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(matchId, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.finishGame(matchId));
+    }
+
+    @Test
+    @DisplayName("Should page through the summary with cursors in summary order")
+    void shouldPageThroughSummary() {
+        // given
+        for (int i = 0; i < 7; i++) {
+            scoreBoard.startGame("Home " + i, "Away " + i);
+            scoreBoard.updateScore("Home " + i, "Away " + i, i % 3, i % 4);
+        }
+        List<Match> summary = scoreBoard.getSummary();
+
+        // when
+        SummaryPage first = scoreBoard.getSummary(null, 3);
+        SummaryPage second = scoreBoard.getSummary(first.nextCursor(), 3);
+        SummaryPage third = scoreBoard.getSummary(second.nextCursor(), 3);
+        SummaryPage fourth = scoreBoard.getSummary(third.nextCursor(), 3);
+
+        // then
+        assertEquals(summary.subList(0, 3), first.matches());
+        assertEquals(summary.subList(3, 6), second.matches());
+        assertEquals(summary.subList(6, 7), third.matches());
+        assertTrue(fourth.matches().isEmpty());
+        assertEquals(summary.subList(0, 2), scoreBoard.getSummary(2));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.getSummary(null, -1));
+    }
+
+    @Test
+    @DisplayName("Should return the ongoing matches of a team")
+    void shouldReturnMatchesOfTeam() {
+        // given
+        Match first = scoreBoard.startGame("Brazil", "Argentina");
+        Match second = scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.startGame("Germany", "France");
+        scoreBoard.finishGame("Brazil", "Argentina");
+
+        // when
+        List<Match> matches = scoreBoard.getMatchesOfTeam("brazil");
+
+        // then
+        assertEquals(List.of(second), matches);
+        assertFalse(matches.contains(first));
+        assertThrows(UnsupportedOperationException.class, () -> matches.add(first));
+    }
+
+    @Test
+    @DisplayName("Should not register the teams of games that were never started or were rejected")
+    void shouldNotRegisterTeamsOfUnknownGames() {
+        // given
+        ScoreBoard ownTeamsScoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository());
+        ownTeamsScoreBoard.startGame("Brazil", "Argentina");
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> ownTeamsScoreBoard.updateScore("Spain", "Italy", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> ownTeamsScoreBoard.finishGame("Brazil", "Italy"));
+        assertThrows(IllegalArgumentException.class, () -> ownTeamsScoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.updateScore("Germany", "France", 1, 0))));
+        assertThrows(IllegalArgumentException.class, () -> ownTeamsScoreBoard.startGame("Mexico", " MEXICO "));
+
+        // then
+        assertEquals(2, ownTeamsScoreBoard.teams().size());
+        assertEquals(2, ownTeamsScoreBoard.teams().spellingCount());
+        assertTrue(ownTeamsScoreBoard.getMatchesOfTeam("Spain").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should show every game with the spelling it was started with")
+    void shouldKeepSpellingPerGame() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        scoreBoard.startGame("Spain", " BRAZIL ");
+
+        // when
+        List<String> summary = scoreBoard.getSummary().stream().map(Match::toString).toList();
+
+        // then
+        assertEquals(List.of("Spain 0 - BRAZIL 0", "Brazil 0 - Argentina 0"), summary);
+        assertEquals(2, scoreBoard.getMatchesOfTeam("brazil").size());
+    }
+
+    @Test
+    @DisplayName("Should rank games started in the same clock tick strictly by start order")
+    void shouldRankGamesStartedTogetherByStartOrder() {
+        // given
+        for (int i = 0; i < 1_000; i++) {
+            scoreBoard.startGame("Tick Home " + i, "Tick Away " + i);
+        }
+
+        // when
+        List<Match> summary = scoreBoard.getSummary();
+
+        // then
+        for (int i = 0; i < summary.size(); i++) {
+            assertEquals("Tick Home " + (999 - i), summary.get(i).getHomeTeam());
+        }
+    }
 }
@@ -0,0 +1,253 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.OffHeapMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IncrementalSummaryEngineTest {
+
+    private ScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository(), new IncrementalSummaryEngine());
+    }
+
+    @Test
+    @DisplayName("Should return games sorted by total score and then by most recent start time")
+    void shouldReturnSortedGames() throws InterruptedException {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", 0, 5);
+        Thread.sleep(10);
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 10, 2);
+        Thread.sleep(10);
+        scoreBoard.startGame("Germany", "France");
+        scoreBoard.updateScore("Germany", "France", 2, 2);
+        Thread.sleep(10);
+        scoreBoard.startGame("Uruguay", "Italy");
+        scoreBoard.updateScore("Uruguay", "Italy", 6, 6);
+        Thread.sleep(10);
+        scoreBoard.startGame("Argentina", "Australia");
+        scoreBoard.updateScore("Argentina", "Australia", 3, 1);
+
+        // when
+        List<Match> summary = scoreBoard.getSummary();
+
+        // then
+        assertEquals(List.of("Uruguay", "Spain", "Mexico", "Argentina", "Germany"),
+                summary.stream().map(Match::getHomeTeam).toList());
+    }
+
+    @Test
+    @DisplayName("Should reposition a game after its total score changes")
+    void shouldRepositionUpdatedGame() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 1, 0);
+        assertEquals("Spain", scoreBoard.getSummary().get(0).getHomeTeam());
+
+        // when
+        scoreBoard.updateScore("Canada", "Mexico", 2, 0);
+
+        // then
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(2, summary.size());
+        assertEquals("Mexico", summary.get(0).getHomeTeam());
+        assertEquals("Spain", summary.get(1).getHomeTeam());
+    }
+
+    @Test
+    @DisplayName("Should show a corrected score keeping the total on a repository returning detached copies")
+    void shouldShowCorrectedScoreOfDetachedCopies() {
+        // given
+        ScoreBoard offHeapScoreBoard = new InMemoryScoreBoard(new OffHeapMatchRepository(), new IncrementalSummaryEngine());
+        offHeapScoreBoard.startGame("Mexico", "Canada");
+        offHeapScoreBoard.startGame("Spain", "Brazil");
+        offHeapScoreBoard.updateScore("Mexico", "Canada", 1, 0);
+
+        // when
+        offHeapScoreBoard.updateScore("Mexico", "Canada", 0, 1);
+
+        // then
+        List<Match> summary = offHeapScoreBoard.getSummary();
+        assertEquals(2, summary.size());
+        assertEquals("Mexico 0 - Canada 1", summary.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should drop a finished game from the summary")
+    void shouldRemoveFinishedGame() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+
+        // when
+        scoreBoard.finishGame("brazil", "spain");
+
+        // then
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals(1, summary.size());
+        assertEquals("Mexico", summary.get(0).getHomeTeam());
+    }
+
+    @Test
+    @DisplayName("Should return only the top k games")
+    void shouldReturnTopGames() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", 0, 1);
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 3, 0);
+        scoreBoard.startGame("Germany", "France");
+        scoreBoard.updateScore("Germany", "France", 1, 1);
+
+        // when
+        List<Match> topTwo = scoreBoard.getSummary(2);
+
+        // then
+        assertEquals(2, topTwo.size());
+        assertEquals("Spain", topTwo.get(0).getHomeTeam());
+        assertEquals("Germany", topTwo.get(1).getHomeTeam());
+        assertTrue(scoreBoard.getSummary(0).isEmpty());
+        assertEquals(3, scoreBoard.getSummary(10).size());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.getSummary(-1));
+    }
+
+    @Test
+    @DisplayName("Should keep the summary ordered after a batch")
+    void shouldRepositionGamesAfterBatch() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+
+        // when
+        scoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.updateScore("Mexico", "Canada", 1, 1),
+                ScoreBoardCommand.startGame("Germany", "France"),
+                ScoreBoardCommand.updateScore("Germany", "France", 1, 0),
+                ScoreBoardCommand.finishGame("Spain", "Brazil"),
+                ScoreBoardCommand.startGame("Brazil", "Spain")));
+
+        // then
+        assertEquals(List.of("Mexico", "Germany", "Brazil"),
+                scoreBoard.getSummary().stream().map(Match::getHomeTeam).toList());
+    }
+
+    @Test
+    @DisplayName("Should page through the summary with cursors in summary order")
+    void shouldPageThroughSummary() {
+        // given
+        for (int i = 0; i < 7; i++) {
+            scoreBoard.startGame("Home " + i, "Away " + i);
+            scoreBoard.updateScore("Home " + i, "Away " + i, i % 3, i % 4);
+        }
+        List<Match> summary = scoreBoard.getSummary();
+
+        // when
+        SummaryPage first = scoreBoard.getSummary(null, 3);
+        SummaryPage second = scoreBoard.getSummary(first.nextCursor(), 3);
+        SummaryPage third = scoreBoard.getSummary(second.nextCursor(), 3);
+        SummaryPage fourth = scoreBoard.getSummary(third.nextCursor(), 3);
+
+        // then
+        assertEquals(summary.subList(0, 3), first.matches());
+        assertEquals(summary.subList(3, 6), second.matches());
+        assertEquals(summary.subList(6, 7), third.matches());
+        assertTrue(fourth.matches().isEmpty());
+        assertEquals(summary.subList(0, 2), scoreBoard.getSummary(2));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.getSummary(null, -1));
+    }
+
+    @Test
+    @DisplayName("Should keep the summary in line with a sorting engine across many random changes")
+    void shouldMatchSortingEngineAcrossRandomChanges() {
+        // given
+        HashIndexedMatchRepository repository = new HashIndexedMatchRepository();
+        ScoreBoard incremental = new InMemoryScoreBoard(repository, new IncrementalSummaryEngine());
+        SortingSummaryEngine sorting = new SortingSummaryEngine(repository);
+        Random random = new Random(11);
+        List<Integer> live = new ArrayList<>();
+
+        // when
+        for (int step = 0; step < 5_000; step++) {
+            int team = random.nextInt(300);
+            if (!live.contains(team)) {
+                incremental.startGame("Home " + team, "Away " + team);
+                live.add(team);
+            } else if (random.nextInt(4) == 0) {
+                incremental.finishGame("Home " + team, "Away " + team);
+                live.remove(Integer.valueOf(team));
+            } else {
+                incremental.updateScore("Home " + team, "Away " + team, random.nextInt(6), random.nextInt(6));
+            }
+        }
+
+        // then
+        SummaryPage expected = sorting.getSummary(null, Integer.MAX_VALUE);
+        assertEquals(expected.matches(), incremental.getSummary());
+        assertEquals(expected.matches().subList(0, 10), incremental.getSummary(10));
+        SummaryPosition cursor = SummaryPosition.of(expected.matches().get(20));
+        assertEquals(sorting.getSummary(cursor, 15).matches(), incremental.getSummary(cursor, 15).matches());
+    }
+
+    @Test
+    @DisplayName("Should list every live game exactly once to readers while scores change concurrently")
+    void shouldReadConsistentSummaryWhileScoresChange() throws InterruptedException {
+        // given
+        int games = 50;
+        for (int i = 0; i < games; i++) {
+            scoreBoard.startGame("Home " + i, "Away " + i);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < 2; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                for (int i = 0; running.get(); i++) {
+                    int game = (i * 7 + writer) % games;
+                    scoreBoard.updateScore("Home " + game, "Away " + game, i % 9, (i + writer) % 4);
+                }
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            threads.add(new Thread(() -> {
+                while (running.get()) {
+                    List<Match> summary = scoreBoard.getSummary();
+                    long distinct = summary.stream().map(Match::getKey).distinct().count();
+                    if (summary.size() != games || distinct != games) {
+                        failure.compareAndSet(null, summary.size() + " games, " + distinct + " distinct");
+                    }
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        Thread.sleep(500);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,109 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.InstrumentedMatchRepository;
+import com.sportradar.interview.footballscoreboard.metrics.MetricsSnapshot;
+import com.sportradar.interview.footballscoreboard.metrics.Operation;
+import com.sportradar.interview.footballscoreboard.metrics.ScoreBoardMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstrumentedScoreBoardTest {
+
+    private ScoreBoardMetrics metrics;
+    private ScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ScoreBoardMetrics();
+        scoreBoard = new InstrumentedScoreBoard(
+                new InMemoryScoreBoard(new InstrumentedMatchRepository(new HashIndexedMatchRepository(), metrics)), metrics);
+    }
+
+    @Test
+    @DisplayName("Should record latency, failures, summary sizes and live matches")
+    void shouldRecordOperations() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 1, 0);
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore("Mexico", "Brazil", 1, 0));
+
+        // when
+        scoreBoard.getSummary();
+        scoreBoard.getSummary(1);
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        // then
+        assertEquals(2, snapshot.operations().get(Operation.START_GAME).calls());
+        MetricsSnapshot.OperationStats updates = snapshot.operations().get(Operation.UPDATE_SCORE);
+        assertEquals(2, updates.calls());
+        assertEquals(1, updates.failures());
+        assertTrue(updates.latency().max() > 0);
+        assertTrue(updates.perSecond() > 0);
+        assertEquals(1, snapshot.operations().get(Operation.REPOSITORY_FIND_BY_TEAMS).misses());
+        assertEquals(2, snapshot.operations().get(Operation.GET_SUMMARY).calls());
+        assertEquals(2, snapshot.summarySizes().max());
+        assertEquals(1, snapshot.summarySizes().p50());
+        assertEquals(2, snapshot.gauges().get("scoreboard.liveMatches").longValue());
+        assertEquals(2, snapshot.gauges().get("repository.liveMatches").longValue());
+    }
+
+    @Test
+    @DisplayName("Should count a call ending in any exception as a failure")
+    void shouldRecordAnyExceptionAsFailure() {
+        // given
+        ScoreBoard follower = new InstrumentedScoreBoard(new FollowerScoreBoard(
+                new ReplicatingScoreBoard(new InMemoryScoreBoard(new HashIndexedMatchRepository()))), metrics);
+        InstrumentedMatchRepository repository = new InstrumentedMatchRepository(new HashIndexedMatchRepository(), metrics);
+
+        // when
+        assertThrows(UnsupportedOperationException.class, () -> follower.startGame("Mexico", "Canada"));
+        assertThrows(IllegalArgumentException.class, () -> repository.save(new Match(new TeamDictionary(), "Mexico", "Canada")));
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.operations().get(Operation.START_GAME).failures());
+        assertEquals(1, snapshot.operations().get(Operation.REPOSITORY_SAVE).failures());
+    }
+
+    @Test
+    @DisplayName("Should record nothing while disabled")
+    void shouldRecordNothingWhenDisabled() {
+        // given
+        metrics.setEnabled(false);
+        metrics.reset();
+
+        // when
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.getSummary();
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.finishGame("Germany", "France"));
+
+        // then
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertTrue(snapshot.operations().isEmpty());
+        assertEquals(0, snapshot.summarySizes().count());
+        assertEquals(1, snapshot.gauges().get("scoreboard.liveMatches").longValue());
+    }
+
+    @Test
+    @DisplayName("Should start a new interval on reset")
+    void shouldResetCounters() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+
+        // when
+        metrics.reset();
+
+        // then
+        assertFalse(metrics.snapshot().operations().containsKey(Operation.START_GAME));
+    }
+}
@@ -0,0 +1,306 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ObservableScoreBoardTest {
+
+    private ObservableScoreBoard scoreBoard;
+    private List<ScoreBoardEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new ObservableScoreBoard(
+                new InMemoryScoreBoard(new HashIndexedMatchRepository(), new IncrementalSummaryEngine()), Runnable::run, 64);
+        events = new CopyOnWriteArrayList<>();
+        scoreBoard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ScoreBoardEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreBoard.close();
+    }
+
+    @Test
+    @DisplayName("Should publish started, updated and finished events followed by shifted ranks and the rank change")
+    void shouldPublishTypedEventsAndRankChanges() throws InterruptedException {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        Thread.sleep(5);
+        scoreBoard.startGame("Spain", "Italy");
+        events.clear();
+
+        // when
+        scoreBoard.updateScore("Brazil", "Argentina", 2, 0);
+        scoreBoard.finishGame("Brazil", "Argentina");
+
+        // then
+        assertEquals(6, events.size());
+        ScoreBoardEvent.ScoreUpdated updated = (ScoreBoardEvent.ScoreUpdated) events.get(0);
+        assertEquals("Brazil", updated.match().getHomeTeam());
+        assertEquals(2, updated.match().getHomeScore());
+        assertEquals(0, updated.previousHomeScore());
+        assertEquals(new ScoreBoardEvent.RanksShifted(events.get(1).sequence(), 1, 1, 1), events.get(1));
+        assertRankChanged(events.get(2), "Brazil", 2, 1);
+        assertEquals("Brazil", ((ScoreBoardEvent.MatchFinished) events.get(3)).match().getHomeTeam());
+        assertEquals(new ScoreBoardEvent.RanksShifted(events.get(4).sequence(), 2, 2, -1), events.get(4));
+        assertRankChanged(events.get(5), "Brazil", 1, ScoreBoardEvent.NOT_RANKED);
+        for (int i = 1; i < events.size(); i++) {
+            assertEquals(events.get(i - 1).sequence() + 1, events.get(i).sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish a started event and a new rank when a game starts")
+    void shouldPublishStartedEvent() {
+        // when
+        scoreBoard.startGame("Brazil", "Argentina");
+
+        // then
+        assertEquals(2, events.size());
+        assertTrue(events.get(0) instanceof ScoreBoardEvent.MatchStarted);
+        assertRankChanged(events.get(1), "Brazil", ScoreBoardEvent.NOT_RANKED, 1);
+    }
+
+    @Test
+    @DisplayName("Should not publish rank changes when an update keeps the ordering")
+    void shouldSkipUnchangedRanks() {
+        // given
+        long matchId = scoreBoard.startGame("Brazil", "Argentina").getId();
+        events.clear();
+
+        // when
+        scoreBoard.updateScore(matchId, 0, 1);
+
+        // then
+        assertEquals(1, events.size());
+        assertTrue(events.get(0) instanceof ScoreBoardEvent.ScoreUpdated);
+    }
+
+    @Test
+    @DisplayName("Should publish the events of every command of a batch as of that command")
+    void shouldPublishBatchEvents() {
+        // when
+        scoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.startGame("Brazil", "Argentina"),
+                ScoreBoardCommand.updateScore("Brazil", "Argentina", 1, 0),
+                ScoreBoardCommand.updateScore("Brazil", "Argentina", 2, 0),
+                ScoreBoardCommand.startGame("Spain", "Italy")));
+
+        // then
+        assertEquals(0, ((ScoreBoardEvent.MatchStarted) events.get(0)).match().getTotalScore());
+        assertRankChanged(events.get(1), "Brazil", ScoreBoardEvent.NOT_RANKED, 1);
+        assertEquals(1, ((ScoreBoardEvent.ScoreUpdated) events.get(2)).match().getTotalScore());
+        assertEquals(1, ((ScoreBoardEvent.ScoreUpdated) events.get(3)).previousHomeScore());
+        assertTrue(events.get(4) instanceof ScoreBoardEvent.MatchStarted);
+        assertRankChanged(events.get(5), "Spain", ScoreBoardEvent.NOT_RANKED, 2);
+        assertEquals(6, events.size());
+    }
+
+    @Test
+    @DisplayName("Should drop events for a slow subscriber instead of blocking writers")
+    void shouldNotBlockOnSlowSubscriber() {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ObservableScoreBoard slowBoard = new ObservableScoreBoard(new InMemoryScoreBoard(new HashIndexedMatchRepository()), executor, 4)) {
+            slowBoard.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    // never requests anything
+                }
+
+                @Override
+                public void onNext(ScoreBoardEvent event) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            slowBoard.startGame("Brazil", "Argentina");
+
+            // when
+            for (int goals = 1; goals <= 200; goals++) {
+                slowBoard.updateScore("Brazil", "Argentina", goals, 0);
+            }
+
+            // then
+            assertEquals(200, slowBoard.getSummary().get(0).getTotalScore());
+            assertTrue(slowBoard.getDroppedEvents() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should replace the next event of a subscriber that missed events with a resync")
+    void shouldResyncSubscriberAfterDroppedEvents() {
+        // given
+        List<ScoreBoardEvent> received = new CopyOnWriteArrayList<>();
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+        try (ObservableScoreBoard smallBoard = new ObservableScoreBoard(
+                new InMemoryScoreBoard(new HashIndexedMatchRepository()), Runnable::run, 4)) {
+            smallBoard.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription flowSubscription) {
+                    subscription[0] = flowSubscription;
+                    flowSubscription.request(1);
+                }
+
+                @Override
+                public void onNext(ScoreBoardEvent event) {
+                    received.add(event);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            smallBoard.startGame("Brazil", "Argentina");
+            smallBoard.startGame("Spain", "Italy");
+            for (int goals = 1; goals <= 10; goals++) {
+                smallBoard.updateScore("Brazil", "Argentina", goals, 0);
+            }
+
+            // when
+            subscription[0].request(Long.MAX_VALUE);
+            smallBoard.updateScore("Spain", "Italy", 1, 0);
+
+            // then
+            assertTrue(smallBoard.getDroppedEvents() > 0);
+            assertEquals(3, received.size());
+            assertTrue(received.get(0) instanceof ScoreBoardEvent.MatchStarted);
+            ScoreBoardEvent.Resync resync = (ScoreBoardEvent.Resync) received.get(1);
+            assertEquals("[Brazil 10 - Argentina 0, Spain 0 - Italy 0]", resync.summary().toString());
+            assertEquals(resync.sequence() + 1, received.get(2).sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Should let a subscriber rebuild the ranks of concurrent writers from the events alone")
+    void shouldKeepRanksConsistentUnderConcurrentWrites() throws InterruptedException {
+        // given
+        Map<String, Integer> ranks = new HashMap<>();
+        try (ObservableScoreBoard concurrentBoard = new ObservableScoreBoard(
+                new InMemoryScoreBoard(new HashIndexedMatchRepository(), new IncrementalSummaryEngine()),
+                Runnable::run, 1 << 16)) {
+            concurrentBoard.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ScoreBoardEvent event) {
+                    // events are delivered one at a time, in sequence order
+                    switch (event) {
+                        case ScoreBoardEvent.RanksShifted shifted -> ranks.replaceAll((team, rank) ->
+                                rank >= shifted.fromRank() && rank <= shifted.toRank() ? rank + shifted.shift() : rank);
+                        case ScoreBoardEvent.RankChanged changed -> {
+                            if (changed.newRank() == ScoreBoardEvent.NOT_RANKED) {
+                                ranks.remove(changed.match().getHomeTeam());
+                            } else {
+                                ranks.put(changed.match().getHomeTeam(), changed.newRank());
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            Thread[] writers = new Thread[4];
+            for (int writer = 0; writer < writers.length; writer++) {
+                int first = writer * 10;
+                writers[writer] = new Thread(() -> {
+                    Random random = new Random(first);
+                    for (int step = 0; step < 500; step++) {
+                        String home = "Home " + (first + random.nextInt(10));
+                        String away = home.replace("Home", "Away");
+                        if (concurrentBoard.getMatchesOfTeam(home).isEmpty()) {
+                            concurrentBoard.startGame(home, away);
+                        } else if (random.nextInt(5) == 0) {
+                            concurrentBoard.finishGame(home, away);
+                        } else {
+                            concurrentBoard.updateScore(home, away, random.nextInt(6), random.nextInt(6));
+                        }
+                    }
+                });
+                writers[writer].start();
+            }
+
+            // when
+            for (Thread writer : writers) {
+                writer.join();
+            }
+
+            // then
+            List<String> summary = concurrentBoard.getSummary().stream().map(Match::getHomeTeam).toList();
+            List<String> rebuilt = ranks.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            assertEquals(summary, rebuilt);
+            assertEquals(IntStream.rangeClosed(1, summary.size()).boxed().toList(),
+                    ranks.values().stream().sorted().toList());
+            assertEquals(0, concurrentBoard.getDroppedEvents());
+        }
+    }
+
+    private static void assertRankChanged(ScoreBoardEvent event, String homeTeam, int previousRank, int newRank) {
+        ScoreBoardEvent.RankChanged rankChanged = (ScoreBoardEvent.RankChanged) event;
+        assertEquals(homeTeam, rankChanged.match().getHomeTeam());
+        assertEquals(previousRank, rankChanged.previousRank());
+        assertEquals(newRank, rankChanged.newRank());
+    }
+}
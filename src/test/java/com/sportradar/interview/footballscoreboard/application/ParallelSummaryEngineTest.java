@@ -0,0 +1,95 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelSummaryEngineTest {
+
+    private MatchRepository matchRepository;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = new HashIndexedMatchRepository();
+        Random random = new Random(42);
+        Instant kickOff = Instant.parse("2024-06-14T19:00:00Z");
+        for (int i = 0; i < 5_000; i++) {
+            // few distinct scores and start times, so most of the order comes from the tie breaks
+            Instant startTime = kickOff.plusNanos(random.nextInt(20) * 500L);
+            matchRepository.save(new Match(matchRepository.teams(), "Parallel Home " + i, "Parallel Away " + i,
+                    random.nextInt(4), random.nextInt(4), startTime));
+        }
+    }
+
+    @Test
+    @DisplayName("Should order a large board exactly like the sequential summary")
+    void shouldMatchSequentialOrder() {
+        // given
+        SummaryEngine parallel = new ParallelSummaryEngine(matchRepository, 1_000);
+        List<Match> expected = new ArrayList<>(matchRepository.findAll());
+        expected.sort(SummaryPosition.MATCH_ORDER);
+
+        // when
+        SummaryPage summary = parallel.getSummary(null, Integer.MAX_VALUE);
+
+        // then
+        assertEquals(expected, summary.matches());
+        assertEquals(SummaryPosition.of(expected.get(expected.size() - 1)), summary.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should page through a large board with the cursors of the sequential summary")
+    void shouldPageLikeSequentialSummary() {
+        // given
+        SummaryEngine parallel = new ParallelSummaryEngine(matchRepository, 1_000);
+        SummaryEngine sequential = new SortingSummaryEngine(matchRepository);
+
+        // when
+        List<SummaryPage> parallelPages = pages(parallel, 1_300);
+        List<SummaryPage> sequentialPages = pages(sequential, 1_300);
+
+        // then
+        assertEquals(sequentialPages, parallelPages);
+        assertEquals(5, parallelPages.size());
+        assertNull(parallelPages.get(4).nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should sort sequentially below the threshold")
+    void shouldSortSequentiallyBelowThreshold() {
+        // given
+        SummaryEngine parallel = new ParallelSummaryEngine(matchRepository);
+        SummaryEngine sequential = new SortingSummaryEngine(matchRepository);
+
+        // when
+        SummaryPage page = parallel.getSummary(null, 10);
+
+        // then
+        assertEquals(sequential.getSummary(null, 10), page);
+        assertEquals(SummaryPage.EMPTY, new ParallelSummaryEngine(matchRepository, 1).getSummary(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSummaryEngine(matchRepository, 0));
+    }
+
+    private static List<SummaryPage> pages(SummaryEngine summaryEngine, int pageSize) {
+        List<SummaryPage> pages = new ArrayList<>();
+        SummaryPage page = summaryEngine.getSummary(null, pageSize);
+        pages.add(page);
+        while (page.nextCursor() != null) {
+            page = summaryEngine.getSummary(page.nextCursor(), pageSize);
+            pages.add(page);
+        }
+        return pages;
+    }
+}
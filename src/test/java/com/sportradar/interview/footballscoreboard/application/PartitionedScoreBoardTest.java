@@ -0,0 +1,161 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchIds;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartitionedScoreBoardTest {
+
+    private PartitionedScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new PartitionedScoreBoard(4, HashIndexedMatchRepository::new);
+    }
+
+    @Test
+    @DisplayName("Should merge partition summaries into the global summary order")
+    void shouldMergeSummariesInGlobalOrder() {
+        // given
+        List<ScoreBoardCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            commands.add(ScoreBoardCommand.startGame("Partition Home " + i, "Partition Away " + i));
+            commands.add(ScoreBoardCommand.updateScore("Partition Home " + i, "Partition Away " + i, i % 4, i % 3));
+        }
+        scoreBoard.applyBatch(commands);
+        Set<Integer> usedPartitions = new HashSet<>();
+        scoreBoard.getCurrentMatches().forEach(match -> usedPartitions.add(MatchIds.namespaceOf(match.getId())));
+
+        // when
+        List<Match> summary = scoreBoard.getSummary();
+
+        // then
+        assertEquals(4, usedPartitions.size());
+        assertEquals(200, summary.size());
+        for (int i = 1; i < summary.size(); i++) {
+            assertTrue(SummaryPosition.MATCH_ORDER.compare(summary.get(i - 1), summary.get(i)) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should page through the merged summary")
+    void shouldPageThroughMergedSummary() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            scoreBoard.startGame("Page Home " + i, "Page Away " + i);
+            scoreBoard.updateScore("Page Home " + i, "Page Away " + i, i, 0);
+        }
+
+        // when
+        SummaryPage firstPage = scoreBoard.getSummary(null, 4);
+        SummaryPage secondPage = scoreBoard.getSummary(firstPage.nextCursor(), 4);
+        SummaryPage lastPage = scoreBoard.getSummary(secondPage.nextCursor(), 4);
+
+        // then
+        assertEquals("Page Home 9 9 - Page Away 9 0", firstPage.matches().get(0).toString());
+        assertEquals("Page Home 5 5 - Page Away 5 0", secondPage.matches().get(0).toString());
+        assertEquals(2, lastPage.matches().size());
+        assertEquals("Page Home 0 0 - Page Away 0 0", lastPage.matches().get(1).toString());
+    }
+
+    @Test
+    @DisplayName("Should route id based calls to the partition that issued the id")
+    void shouldRouteIdsToOwningPartition() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(scoreBoard.startGame("Id Home " + i, "Id Away " + i).getId());
+        }
+
+        // when
+        for (int i = 0; i < ids.size(); i++) {
+            scoreBoard.updateScore(ids.get(i), i, 1);
+        }
+        scoreBoard.finishGame(ids.get(0));
+
+        // then
+        assertEquals(19, scoreBoard.getCurrentMatches().size());
+        assertEquals("Id Home 19 19 - Id Away 19 1", scoreBoard.getSummary().get(0).toString());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(ids.get(0), 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.finishGame(MatchIds.of(100, 0)));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch spanning partitions without applying any of it")
+    void shouldRejectBatchAcrossPartitionsAtomically() {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        List<ScoreBoardCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            commands.add(ScoreBoardCommand.startGame("Batch Home " + i, "Batch Away " + i));
+        }
+        commands.add(ScoreBoardCommand.startGame("Canada", "Mexico"));
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> scoreBoard.applyBatch(commands));
+
+        // then
+        assertTrue(exception.getMessage().startsWith("Batch command 20 rejected"));
+        assertEquals(1, scoreBoard.getCurrentMatches().size());
+    }
+
+    @Test
+    @DisplayName("Should roll back the parts applied to earlier partitions when a later part fails")
+    void shouldRollBackEarlierPartitionsOnFailure() {
+        // given
+        PartitionedScoreBoard competitionBoard = new PartitionedScoreBoard(4, (namespace, teams) -> namespace != 2
+                ? new HashIndexedMatchRepository(namespace, teams)
+                : new HashIndexedMatchRepository(namespace, teams) {
+                    @Override
+                    public boolean saveIfAbsent(Match match) {
+                        throw new IllegalStateException("Storage is full.");
+                    }
+                },
+                repository -> new IncrementalSummaryEngine(),
+                Partitioner.byCompetition(team -> team.startsWith("League") ? 1 : 2));
+        competitionBoard.startGame("League A", "League B");
+
+        // when
+        assertThrows(IllegalStateException.class, () -> competitionBoard.applyBatch(List.of(
+                ScoreBoardCommand.updateScore("League A", "League B", 2, 0),
+                ScoreBoardCommand.startGame("League C", "League D"),
+                ScoreBoardCommand.startGame("Cup A", "Cup B"))));
+
+        // then
+        List<Match> summary = competitionBoard.getSummary();
+        assertEquals(1, summary.size());
+        assertEquals("League A 0 - League B 0", summary.get(0).toString());
+        assertEquals(1, competitionBoard.getCurrentMatches().size());
+    }
+
+    @Test
+    @DisplayName("Should keep matches of a competition in one partition")
+    void shouldPartitionByCompetition() {
+        // given
+        PartitionedScoreBoard competitionBoard = new PartitionedScoreBoard(4, HashIndexedMatchRepository::new,
+                repository -> new IncrementalSummaryEngine(),
+                Partitioner.byCompetition(team -> team.startsWith("League") ? 1 : 2));
+
+        // when
+        Match leagueMatch = competitionBoard.startGame("League A", "League B");
+        Match otherLeagueMatch = competitionBoard.startGame("League C", "League D");
+        Match cupMatch = competitionBoard.startGame("Cup A", "Cup B");
+
+        // then
+        assertEquals(1, MatchIds.namespaceOf(leagueMatch.getId()));
+        assertEquals(1, MatchIds.namespaceOf(otherLeagueMatch.getId()));
+        assertEquals(2, MatchIds.namespaceOf(cupMatch.getId()));
+    }
+}
@@ -0,0 +1,251 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplicatingScoreBoardTest {
+
+    private ReplicatingScoreBoard leader;
+
+    @BeforeEach
+    void setUp() {
+        leader = new ReplicatingScoreBoard(new InMemoryScoreBoard(new HashIndexedMatchRepository()), 8);
+    }
+
+    @Test
+    @DisplayName("Should serve the leader's summary on a follower after it caught up")
+    void shouldMirrorLeaderSummary() {
+        // given
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader);
+        follower.catchUp();
+        Match mexico = leader.startGame("Mexico", "Canada");
+        leader.startGame("Spain", "Brazil");
+        leader.startGame("Germany", "France");
+        leader.updateScore(mexico.getId(), 0, 5);
+        leader.applyBatch(List.of(
+                ScoreBoardCommand.updateScore("Spain", "Brazil", 3, 2),
+                ScoreBoardCommand.startGame("Uruguay", "Italy"),
+                ScoreBoardCommand.finishGame("Germany", "France")));
+
+        // when
+        follower.catchUp();
+
+        // then
+        assertEquals(render(leader.getSummary()), render(follower.getSummary()));
+        assertEquals(leader.getHeadOffset(), follower.getStatus().appliedOffset());
+        assertEquals(7, follower.getStatus().recordsApplied());
+        assertEquals(1, follower.getStatus().snapshotsLoaded());
+        assertEquals(List.of(), follower.getMatchesOfTeam("Germany"));
+        assertEquals(1, follower.getSummary(SummaryPosition.of(leader.getSummary().get(1)), 5).matches().size());
+    }
+
+    @Test
+    @DisplayName("Should order matches started in the same tick like the leader")
+    void shouldKeepLeaderTieOrder() {
+        // given
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader, 3, Long.MAX_VALUE);
+        follower.catchUp();
+        for (int i = 0; i < 6; i++) {
+            leader.startGame("Tie Home " + i, "Tie Away " + i);
+        }
+
+        // when
+        follower.catchUp();
+
+        // then
+        List<Match> summary = follower.getSummary();
+        assertEquals(render(leader.getSummary()), render(summary));
+        assertEquals("Tie Home 5", summary.get(0).getHomeTeam());
+        assertEquals("Tie Home 0", summary.get(5).getHomeTeam());
+    }
+
+    @Test
+    @DisplayName("Should report lag until the follower fetched every record")
+    void shouldReportLag() {
+        // given
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader, 2, Long.MAX_VALUE);
+        follower.catchUp();
+        leader.startGame("Mexico", "Canada");
+        leader.updateScore("Mexico", "Canada", 1, 0);
+        leader.updateScore("Mexico", "Canada", 2, 0);
+
+        // when
+        int applied = follower.poll(0);
+
+        // then
+        ReplicationStatus status = follower.getStatus();
+        assertEquals(2, applied);
+        assertEquals(1, status.lagRecords());
+        assertFalse(status.isCaughtUp());
+        assertEquals(1, follower.getSummary().get(0).getHomeScore());
+        follower.poll(0);
+        assertEquals(0, follower.getStatus().lagRecords());
+        assertTrue(follower.getStatus().isCaughtUp());
+        assertEquals(2, follower.getSummary().get(0).getHomeScore());
+    }
+
+    @Test
+    @DisplayName("Should catch up from a snapshot when the leader no longer retains the missing records")
+    void shouldCatchUpFromSnapshot() {
+        // given
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader);
+        follower.catchUp();
+        leader.startGame("Mexico", "Canada");
+        for (int goal = 1; goal <= 20; goal++) {
+            leader.updateScore("Mexico", "Canada", goal, 0);
+        }
+        leader.startGame("Spain", "Brazil");
+
+        // when
+        follower.catchUp();
+
+        // then
+        assertEquals(2, follower.getStatus().snapshotsLoaded());
+        assertEquals(0, follower.getStatus().recordsApplied());
+        assertEquals(render(leader.getSummary()), render(follower.getSummary()));
+        assertEquals(20, follower.getSummary().get(0).getHomeScore());
+    }
+
+    @Test
+    @DisplayName("Should load a snapshot instead of replaying once its lag exceeds the threshold")
+    void shouldLoadSnapshotAboveThreshold() {
+        // given
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader, 1, 2);
+        follower.catchUp();
+        leader.startGame("Mexico", "Canada");
+        leader.startGame("Spain", "Brazil");
+        leader.startGame("Germany", "France");
+        leader.startGame("Uruguay", "Italy");
+
+        // when
+        follower.poll(0);
+        follower.poll(0);
+
+        // then
+        assertEquals(1, follower.getStatus().recordsApplied());
+        assertEquals(2, follower.getStatus().snapshotsLoaded());
+        assertTrue(follower.getStatus().isCaughtUp());
+        assertEquals(render(leader.getSummary()), render(follower.getSummary()));
+    }
+
+    @Test
+    @DisplayName("Should wait for the next record when the follower is up to date")
+    void shouldWaitForNextRecord() throws Exception {
+        // given
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader);
+        follower.catchUp();
+        Thread writer = Thread.ofPlatform().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            leader.startGame("Mexico", "Canada");
+        });
+
+        // when
+        int applied = follower.poll(10_000);
+
+        // then
+        writer.join();
+        assertEquals(1, applied);
+        assertEquals(1, follower.getCurrentMatches().size());
+    }
+
+    @Test
+    @DisplayName("Should converge while polling in the background")
+    void shouldFollowInBackground() throws Exception {
+        // given
+        try (FollowerScoreBoard follower = new FollowerScoreBoard(leader)) {
+            follower.start();
+
+            // when
+            for (int i = 0; i < 50; i++) {
+                leader.startGame("Background Home " + i, "Background Away " + i);
+                leader.updateScore("Background Home " + i, "Background Away " + i, i % 4, i % 3);
+            }
+
+            // then
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (follower.getStatus().appliedOffset() < leader.getHeadOffset() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(render(leader.getSummary()), render(follower.getSummary()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject writes on a follower")
+    void shouldRejectWritesOnFollower() {
+        FollowerScoreBoard follower = new FollowerScoreBoard(leader);
+        assertThrows(UnsupportedOperationException.class, () -> follower.startGame("Mexico", "Canada"));
+        assertThrows(UnsupportedOperationException.class, () -> follower.updateScore("Mexico", "Canada", 1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> follower.finishGame("Mexico", "Canada"));
+        assertThrows(UnsupportedOperationException.class, () -> follower.applyBatch(List.of()));
+    }
+
+    @Test
+    @DisplayName("Should not log rejected writes")
+    void shouldNotLogRejectedWrites() {
+        // given
+        leader.startGame("Mexico", "Canada");
+
+        // when // then
+        assertThrows(IllegalArgumentException.class, () -> leader.startGame("Canada", "Mexico"));
+        assertThrows(IllegalArgumentException.class, () -> leader.updateScore("Spain", "Brazil", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> leader.fetch(0, 0, 0));
+        assertEquals(1, leader.getHeadOffset());
+    }
+
+    @Test
+    @DisplayName("Should replay concurrent writes to different matches in the order the leader applied them")
+    void shouldMirrorConcurrentWrites() throws InterruptedException {
+        // given
+        ReplicatingScoreBoard concurrentLeader = new ReplicatingScoreBoard(
+                new InMemoryScoreBoard(new HashIndexedMatchRepository()), 100_000);
+        FollowerScoreBoard follower = new FollowerScoreBoard(concurrentLeader);
+        follower.catchUp();
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            int writer = w;
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    Match match = concurrentLeader.startGame("Home " + writer + "-" + i, "Away " + writer + "-" + i);
+                    concurrentLeader.updateScore(match.getId(), i % 5, i % 3);
+                    concurrentLeader.updateScore("Home " + writer + "-" + i, "Away " + writer + "-" + i, i % 7, i % 3);
+                    if (i % 2 == 0) {
+                        concurrentLeader.finishGame(match.getId());
+                    }
+                }
+            }));
+        }
+
+        // when
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        follower.catchUp();
+
+        // then
+        assertEquals(400, concurrentLeader.getSummary().size());
+        assertEquals(render(concurrentLeader.getSummary()), render(follower.getSummary()));
+        assertEquals(concurrentLeader.getHeadOffset(), follower.getStatus().appliedOffset());
+    }
+
+    // followers intern team names into dictionaries of their own, so matches are compared by what they show
+    private static List<String> render(List<Match> matches) {
+        return matches.stream().map(Match::toString).toList();
+    }
+}
@@ -0,0 +1,298 @@
+package com.sportradar.interview.footballscoreboard.application;
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.infrastructure.InMemoryMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotScoreBoardTest {
+
+    private SnapshotScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new SnapshotScoreBoard(new InMemoryScoreBoard(new InMemoryMatchRepository()));
+    }
+
+    @Test
+    @DisplayName("Should publish a new version for every mutation")
+    void shouldIncreaseVersionOnEveryMutation() {
+        // given
+        long initialVersion = scoreBoard.snapshot().version();
+
+        // when
+        scoreBoard.startGame("Brazil", "Argentina");
+        scoreBoard.updateScore("Brazil", "Argentina", 1, 0);
+        scoreBoard.finishGame("Brazil", "Argentina");
+
+        // then
+        assertEquals(initialVersion + 3, scoreBoard.snapshot().version());
+        assertTrue(scoreBoard.getCurrentMatches().isEmpty());
+        assertTrue(scoreBoard.getSummary().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not publish a new version when a mutation is rejected")
+    void shouldKeepVersionOnFailedMutation() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        long version = scoreBoard.snapshot().version();
+
+        // when // then
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame("Argentina", "Brazil"));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore("Spain", "Italy", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.finishGame("Spain", "Italy"));
+        assertEquals(version, scoreBoard.snapshot().version());
+    }
+
+    @Test
+    @DisplayName("Should keep an already taken snapshot unchanged by later updates")
+    void shouldKeepSnapshotImmutable() {
+        // given
+        Match liveMatch = scoreBoard.startGame("Brazil", "Argentina");
+        ScoreBoardSnapshot before = scoreBoard.snapshot();
+
+        // when
+        scoreBoard.updateScore("Brazil", "Argentina", 2, 1);
+
+        // then
+        Match snapshotMatch = before.summary().get(0);
+        assertNotSame(liveMatch, snapshotMatch);
+        assertEquals(0, snapshotMatch.getTotalScore());
+        assertEquals(3, scoreBoard.getSummary().get(0).getTotalScore());
+        assertThrows(UnsupportedOperationException.class, () -> before.summary().add(liveMatch));
+    }
+
+    @Test
+    @DisplayName("Should return games sorted by total score and then by most recent start time")
+    void shouldReturnSortedGames() throws InterruptedException {
+        // given
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.updateScore("Mexico", "Canada", 0, 5);
+        Thread.sleep(10);
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 10, 2);
+        Thread.sleep(10);
+        scoreBoard.startGame("Germany", "France");
+        scoreBoard.updateScore("Germany", "France", 2, 2);
+        Thread.sleep(10);
+        scoreBoard.startGame("Uruguay", "Italy");
+        scoreBoard.updateScore("Uruguay", "Italy", 6, 6);
+        Thread.sleep(10);
+        scoreBoard.startGame("Argentina", "Australia");
+        scoreBoard.updateScore("Argentina", "Australia", 3, 1);
+
+        // when
+        List<Match> summary = scoreBoard.getSummary();
+
+        // then
+        assertEquals(List.of("Uruguay", "Spain", "Mexico", "Argentina", "Germany"),
+                summary.stream().map(Match::getHomeTeam).toList());
+        assertEquals(List.of("Uruguay", "Spain"), scoreBoard.getSummary(2).stream().map(Match::getHomeTeam).toList());
+        assertEquals(List.of("Mexico", "Spain", "Germany", "Uruguay", "Argentina"),
+                scoreBoard.getCurrentMatches().stream().map(Match::getHomeTeam).toList());
+    }
+
+    @Test
+    @DisplayName("Should never expose a torn score or an unsorted summary to concurrent readers")
+    void shouldExposeConsistentSnapshotsToReaders() throws InterruptedException {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        scoreBoard.startGame("Spain", "Italy");
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            long lastVersion = -1;
+            while (running.get()) {
+                ScoreBoardSnapshot snapshot = scoreBoard.snapshot();
+                if (snapshot.version() < lastVersion) {
+                    failure.set("Version went backwards");
+                }
+                lastVersion = snapshot.version();
+                List<Match> summary = snapshot.summary();
+                for (int i = 0; i < summary.size(); i++) {
+                    Match match = summary.get(i);
+                    if (match.getHomeScore() != match.getAwayScore()) {
+                        failure.set("Torn score " + match);
+                    }
+                    if (i > 0 && SummaryPosition.MATCH_ORDER.compare(summary.get(i - 1), match) > 0) {
+                        failure.set("Unsorted summary " + summary);
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        // when
+        for (int goals = 1; goals <= 2_000; goals++) {
+            scoreBoard.updateScore("Brazil", "Argentina", goals, goals);
+            scoreBoard.updateScore("Spain", "Italy", goals + 1, goals + 1);
+        }
+        running.set(false);
+        reader.join();
+
+        // then
+        assertNull(failure.get());
+    }
+
+    @Test
+    @DisplayName("Should publish a single version for a whole batch")
+    void shouldPublishOnceForBatch() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        long version = scoreBoard.snapshot().version();
+
+        // when
+        scoreBoard.applyBatch(List.of(
+                ScoreBoardCommand.updateScore("Brazil", "Argentina", 1, 0),
+                ScoreBoardCommand.startGame("Spain", "Italy"),
+                ScoreBoardCommand.updateScore("Spain", "Italy", 2, 0)));
+
+        // then
+        ScoreBoardSnapshot snapshot = scoreBoard.snapshot();
+        assertEquals(version + 1, snapshot.version());
+        assertEquals(List.of("Spain", "Brazil"), snapshot.summary().stream().map(Match::getHomeTeam).toList());
+        assertEquals(List.of("Brazil", "Spain"), snapshot.currentMatches().stream().map(Match::getHomeTeam).toList());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.applyBatch(List.of(ScoreBoardCommand.finishGame("X", "Y"))));
+        assertEquals(version + 1, scoreBoard.snapshot().version());
+    }
+
+    @Test
+    @DisplayName("Should publish snapshots for updates and finishes by id")
+    void shouldPublishSnapshotsForIdOperations() {
+        // given
+        long matchId = scoreBoard.startGame("Brazil", "Argentina").getId();
+        scoreBoard.startGame("Spain", "Italy");
+
+        // when
+        scoreBoard.updateScore(matchId, 1, 1);
+
+        // then
+        assertEquals(matchId, scoreBoard.getSummary().get(0).getId());
+        assertEquals(2, scoreBoard.getSummary().get(0).getTotalScore());
+        scoreBoard.finishGame(matchId);
+        assertEquals(List.of("Spain"), scoreBoard.getCurrentMatches().stream().map(Match::getHomeTeam).toList());
+    }
+
+    @Test
+    @DisplayName("Should page through the summary with cursors in summary order")
+    void shouldPageThroughSummary() {
+        // given
+        for (int i = 0; i < 7; i++) {
+            scoreBoard.startGame("Home " + i, "Away " + i);
+            scoreBoard.updateScore("Home " + i, "Away " + i, i % 3, i % 4);
+        }
+        List<Match> summary = scoreBoard.getSummary();
+
+        // when
+        SummaryPage first = scoreBoard.getSummary(null, 3);
+        SummaryPage second = scoreBoard.getSummary(first.nextCursor(), 3);
+        SummaryPage third = scoreBoard.getSummary(second.nextCursor(), 3);
+        SummaryPage fourth = scoreBoard.getSummary(third.nextCursor(), 3);
+
+        // then
+        assertEquals(summary.subList(0, 3), first.matches());
+        assertEquals(summary.subList(3, 6), second.matches());
+        assertEquals(summary.subList(6, 7), third.matches());
+        assertTrue(fourth.matches().isEmpty());
+        assertEquals(summary.subList(0, 2), scoreBoard.getSummary(2));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.getSummary(null, -1));
+    }
+
+    @Test
+    @DisplayName("Should reject changes to the matches of a snapshot")
+    void shouldRejectChangesToSnapshotMatches() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        Match snapshotMatch = scoreBoard.snapshot().summary().get(0);
+
+        // when // then
+        assertTrue(snapshotMatch.isReadOnly());
+        assertThrows(UnsupportedOperationException.class, () -> snapshotMatch.updateScore(5, 0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshotMatch.assignId(42));
+        assertEquals(0, scoreBoard.getSummary().get(0).getTotalScore());
+    }
+
+    @Test
+    @DisplayName("Should share the entries of unchanged games between versions")
+    void shouldShareUnchangedEntries() {
+        // given
+        scoreBoard.startGame("Brazil", "Argentina");
+        scoreBoard.startGame("Spain", "Italy");
+        ScoreBoardSnapshot before = scoreBoard.snapshot();
+
+        // when
+        scoreBoard.updateScore("Spain", "Italy", 1, 0);
+
+        // then
+        ScoreBoardSnapshot after = scoreBoard.snapshot();
+        assertSame(before.currentMatches().get(0), after.currentMatches().get(0));
+        assertNotSame(before.currentMatches().get(1), after.currentMatches().get(1));
+        assertEquals(1, after.summary().get(0).getTotalScore());
+    }
+
+    @Test
+    @DisplayName("Should find the live matches of a team in any spelling after updates and finishes")
+    void shouldFindMatchesOfTeam() {
+        // given
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.startGame("Mexico", "Spain");
+        scoreBoard.startGame("Germany", "France");
+        scoreBoard.startGame("Spain", "Italy");
+        scoreBoard.updateScore("Mexico", "Spain", 2, 1);
+
+        // when
+        scoreBoard.finishGame("Spain", "Brazil");
+        List<Match> matches = scoreBoard.getMatchesOfTeam(" SPAIN ");
+
+        // then
+        assertEquals(List.of("Mexico 2 - Spain 1", "Spain 0 - Italy 0"), matches.stream().map(Match::toString).toList());
+        assertEquals(1, scoreBoard.getMatchesOfTeam("France").size());
+        assertEquals(List.of(), scoreBoard.getMatchesOfTeam("Brazil"));
+        assertEquals(List.of(), scoreBoard.getMatchesOfTeam("Portugal"));
+        assertThrows(UnsupportedOperationException.class, () -> matches.add(matches.get(0)));
+    }
+
+    @Test
+    @DisplayName("Should keep both orders in line with the scoreboard across many random changes")
+    void shouldMatchScoreBoardAcrossRandomChanges() {
+        // given
+        InMemoryScoreBoard board = new InMemoryScoreBoard(new InMemoryMatchRepository());
+        SnapshotScoreBoard snapshotBoard = new SnapshotScoreBoard(board);
+        Random random = new Random(7);
+        List<Integer> live = new ArrayList<>();
+
+        // when
+        for (int step = 0; step < 3_000; step++) {
+            int team = random.nextInt(200);
+            if (!live.contains(team)) {
+                snapshotBoard.startGame("Home " + team, "Away " + team);
+                live.add(team);
+            } else if (random.nextInt(4) == 0) {
+                snapshotBoard.finishGame("Home " + team, "Away " + team);
+                live.remove(Integer.valueOf(team));
+            } else {
+                snapshotBoard.updateScore("Home " + team, "Away " + team, random.nextInt(5), random.nextInt(5));
+            }
+        }
+
+        // then
+        assertEquals(board.getSummary().toString(), snapshotBoard.getSummary().toString());
+        assertEquals(board.getCurrentMatches().toString(), snapshotBoard.getCurrentMatches().toString());
+        assertEquals(board.getSummary(5).toString(), snapshotBoard.getSummary(5).toString());
+    }
+}
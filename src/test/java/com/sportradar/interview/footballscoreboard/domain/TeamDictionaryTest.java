@@ -0,0 +1,102 @@
+package com.sportradar.interview.footballscoreboard.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TeamDictionaryTest {
+
+    private TeamDictionary teamDictionary;
+
+    @BeforeEach
+    void setUp() {
+        teamDictionary = new TeamDictionary();
+    }
+
+    @Test
+    @DisplayName("Should assign one id to spellings differing only in case and surrounding whitespace")
+    void shouldCanonicalizeNames() {
+        // given
+        int id = teamDictionary.idOf("Brazil");
+
+        // when // then
+        assertEquals(id, teamDictionary.idOf("brazil"));
+        assertEquals(id, teamDictionary.idOf(" BRAZIL "));
+        assertNotEquals(id, teamDictionary.idOf("Argentina"));
+        assertEquals(2, teamDictionary.size());
+    }
+
+    @Test
+    @DisplayName("Should resolve a team id to the first trimmed spelling of the team")
+    void shouldResolveDisplayName() {
+        // given
+        int id = teamDictionary.idOf("  Brazil ");
+        teamDictionary.idOf("BRAZIL");
+
+        // when // then
+        assertEquals("Brazil", teamDictionary.nameOf(id));
+        assertThrows(IllegalArgumentException.class, () -> teamDictionary.nameOf(id + 2));
+    }
+
+    @Test
+    @DisplayName("Should keep every trimmed spelling of a team under its own spelling id")
+    void shouldKeepSpellings() {
+        // given
+        int firstSpelling = teamDictionary.spellingIdOf("Brazil");
+
+        // when
+        int secondSpelling = teamDictionary.spellingIdOf(" BRAZIL ");
+
+        // then
+        assertNotEquals(firstSpelling, secondSpelling);
+        assertEquals(secondSpelling, teamDictionary.spellingIdOf("BRAZIL"));
+        assertEquals("BRAZIL", teamDictionary.nameOf(secondSpelling));
+        assertEquals(firstSpelling, teamDictionary.teamIdOf(secondSpelling));
+        assertEquals(1, teamDictionary.size());
+        assertEquals(2, teamDictionary.spellingCount());
+    }
+
+    @Test
+    @DisplayName("Should reject null or blank team names")
+    void shouldRejectInvalidNames() {
+        assertThrows(IllegalArgumentException.class, () -> teamDictionary.idOf(null));
+        assertThrows(IllegalArgumentException.class, () -> teamDictionary.idOf(""));
+        assertThrows(IllegalArgumentException.class, () -> teamDictionary.idOf("   "));
+        assertEquals(0, teamDictionary.size());
+    }
+
+    @Test
+    @DisplayName("Should keep ids stable while growing past the initial capacity")
+    void shouldGrow() {
+        // given
+        for (int i = 0; i < 1_000; i++) {
+            teamDictionary.idOf("Team " + i);
+        }
+
+        // when // then
+        assertEquals(1_000, teamDictionary.size());
+        assertEquals(500, teamDictionary.idOf("team 500"));
+        assertEquals("Team 999", teamDictionary.nameOf(999));
+    }
+
+    @Test
+    @DisplayName("Should find a registered team without registering unknown ones")
+    void shouldFindIdWithoutRegistering() {
+        // given
+        int id = teamDictionary.idOf("Brazil");
+
+        // when
+        int found = teamDictionary.findId(" BRAZIL ");
+        int missing = teamDictionary.findId("Argentina");
+
+        // then
+        assertEquals(id, found);
+        assertEquals(TeamDictionary.UNKNOWN_ID, missing);
+        assertEquals(TeamDictionary.UNKNOWN_ID, teamDictionary.findId(null));
+        assertEquals(1, teamDictionary.size());
+    }
+}
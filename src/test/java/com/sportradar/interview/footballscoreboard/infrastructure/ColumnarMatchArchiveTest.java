@@ -0,0 +1,184 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.domain.ArchivedMatch;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarMatchArchiveTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-06-14T19:00:00Z");
+
+    private TeamDictionary teams;
+    private MutableClock clock;
+    private ColumnarMatchArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        teams = new TeamDictionary();
+        clock = new MutableClock(KICK_OFF.plus(Duration.ofHours(2)));
+        archive = new ColumnarMatchArchive(10_000, Duration.ofDays(30), clock);
+    }
+
+    @Test
+    @DisplayName("Should find the results of a team in finish order")
+    void shouldFindResultsByTeam() {
+        // given
+        archive.archive(new Match(teams, "Germany", "Scotland", 5, 1, KICK_OFF));
+        clock.advance(Duration.ofHours(1));
+        archive.archive(new Match(teams, "Hungary", "Switzerland", 1, 3, KICK_OFF));
+        clock.advance(Duration.ofDays(4));
+        archive.archive(new Match(teams, "Scotland", "Switzerland", 1, 1, KICK_OFF.plus(Duration.ofDays(4))));
+
+        // when
+        List<ArchivedMatch> results = archive.findByTeam(" scotland");
+
+        // then
+        assertEquals(2, results.size());
+        assertEquals("Germany 5 - Scotland 1", results.get(0).toString());
+        assertEquals(KICK_OFF, results.get(0).startTime());
+        assertEquals(KICK_OFF.plus(Duration.ofHours(2)), results.get(0).finishTime());
+        assertEquals("Scotland 1 - Switzerland 1", results.get(1).toString());
+        assertTrue(archive.findByTeam("Never Played").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find the matches finished in a time window")
+    void shouldFindResultsInTimeWindow() {
+        // given
+        for (int day = 0; day < 10; day++) {
+            archive.archive(new Match(teams, "Window Home " + day, "Window Away " + day, day, 0,
+                    clock.instant().minus(Duration.ofHours(2))));
+            clock.advance(Duration.ofDays(1));
+        }
+        Instant firstFinish = KICK_OFF.plus(Duration.ofHours(2));
+
+        // when
+        List<ArchivedMatch> results = archive.findFinishedBetween(firstFinish.plus(Duration.ofDays(3)), firstFinish.plus(Duration.ofDays(6)));
+
+        // then
+        assertEquals(3, results.size());
+        assertEquals("Window Home 3 3 - Window Away 3 0", results.get(0).toString());
+        assertEquals("Window Home 5 5 - Window Away 5 0", results.get(2).toString());
+    }
+
+    @Test
+    @DisplayName("Should accept Instant.MIN and Instant.MAX as open bounds of a time window")
+    void shouldFindResultsInOpenEndedTimeWindow() {
+        // given
+        for (int day = 0; day < 10; day++) {
+            archive.archive(new Match(teams, "Open Home " + day, "Open Away " + day, day, 0,
+                    clock.instant().minus(Duration.ofHours(2))));
+            clock.advance(Duration.ofDays(1));
+        }
+        Instant firstFinish = KICK_OFF.plus(Duration.ofHours(2));
+
+        // when
+        List<ArchivedMatch> since = archive.findFinishedBetween(firstFinish.plus(Duration.ofDays(3)), Instant.MAX);
+        List<ArchivedMatch> all = archive.findFinishedBetween(Instant.MIN, Instant.MAX);
+
+        // then
+        assertEquals(7, since.size());
+        assertEquals("Open Home 3 3 - Open Away 3 0", since.get(0).toString());
+        assertEquals(10, all.size());
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest results beyond the size limit")
+    void shouldEvictBeyondSizeLimit() {
+        // given
+        ColumnarMatchArchive boundedArchive = new ColumnarMatchArchive(1_500, Duration.ofDays(30), clock);
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            boundedArchive.archive(new Match(teams, "Bounded Home", "Bounded Away " + i, i, 0, KICK_OFF));
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        // then
+        assertEquals(1_500, boundedArchive.size());
+        assertEquals(500, boundedArchive.getEvictedCount());
+        List<ArchivedMatch> results = boundedArchive.findByTeam("Bounded Home");
+        assertEquals(1_500, results.size());
+        assertEquals(500, results.get(0).homeScore());
+        assertEquals(1_999, results.get(1_499).homeScore());
+    }
+
+    @Test
+    @DisplayName("Should evict results older than the retention period")
+    void shouldEvictExpiredResults() {
+        // given
+        archive.archive(new Match(teams, "Germany", "Scotland", 5, 1, KICK_OFF));
+        clock.advance(Duration.ofDays(20));
+        archive.archive(new Match(teams, "Scotland", "Hungary", 0, 1, KICK_OFF.plus(Duration.ofDays(20))));
+
+        // when
+        clock.advance(Duration.ofDays(15));
+        List<ArchivedMatch> beforeEviction = archive.findByTeam("Scotland");
+        archive.evictExpired();
+
+        // then
+        assertEquals(1, beforeEviction.size());
+        assertEquals("Scotland 0 - Hungary 1", beforeEviction.get(0).toString());
+        assertEquals(1, archive.size());
+        assertEquals(1, archive.getEvictedCount());
+    }
+
+    @Test
+    @DisplayName("Should archive matches finished on the scoreboard")
+    void shouldArchiveFinishedMatches() {
+        // given
+        ScoreBoard scoreBoard = new InMemoryScoreBoard(new ArchivingMatchRepository(new HashIndexedMatchRepository(), archive));
+        scoreBoard.startGame("Spain", "Croatia");
+        scoreBoard.updateScore("Spain", "Croatia", 3, 0);
+
+        // when
+        scoreBoard.finishGame("Spain", "Croatia");
+
+        // then
+        assertTrue(scoreBoard.getCurrentMatches().isEmpty());
+        assertEquals("Spain 3 - Croatia 0", archive.findByTeam("Croatia").get(0).toString());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class HashIndexedMatchRepositoryTest {
+
+    private MatchRepository matchRepository;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = new HashIndexedMatchRepository();
+    }
+
+    @Test
+    @DisplayName("Should save a new match and find it")
+    void shouldSaveNewMatch() {
+        // given
+        Match match = new Match(matchRepository.teams(), "TeamA", "TeamB");
+
+        // when
+        Match savedMatch = matchRepository.save(match);
+
+        // then
+        assertNotNull(savedMatch);
+        assertEquals(match, savedMatch);
+        assertTrue(matchRepository.findByTeams("TeamA", "TeamB").isPresent());
+        assertEquals(1, matchRepository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should update existing match's score when saving with same teams")
+    void shouldUpdateExistingMatch() {
+        // given
+        Match match1 = new Match(matchRepository.teams(), "TeamA", "TeamB");
+        Match match2 = new Match(matchRepository.teams(), "TeamA", "TeamB");
+
+        // when
+        matchRepository.save(match1);
+        match2.updateScore(2, 1);
+        Match updatedMatch = matchRepository.save(match2);
+
+        // then
+        assertEquals(2, updatedMatch.getHomeScore());
+        assertEquals(1, updatedMatch.getAwayScore());
+        assertEquals(1, matchRepository.findAll().size());
+        assertEquals(2, matchRepository.findByTeams("TeamA", "TeamB").get().getHomeScore());
+    }
+
+    @Test
+    @DisplayName("Should delete a match by teams")
+    void shouldRemoveMatch() {
+        // given
+        Match match = new Match(matchRepository.teams(), "TeamA", "TeamB");
+        matchRepository.save(match);
+        assertEquals(1, matchRepository.findAll().size());
+
+        // when
+        boolean deleted = matchRepository.delete("TeamA", "TeamB");
+
+        // then
+        assertTrue(deleted);
+        assertFalse(matchRepository.findByTeams("TeamA", "TeamB").isPresent());
+        assertTrue(matchRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return false if deleting a non-existent match")
+    void shouldReturnFalseForNonExistentMatch() {
+        // given
+
+        // when
+        boolean deleted = matchRepository.delete("XXX", "YYY");
+
+        // then
+        assertFalse(deleted);
+    }
+
+    @Test
+    @DisplayName("Should find a match by teams")
+    void shouldFindMatchCaseAndOrderInsensitive() {
+        // given
+        Match match = new Match(matchRepository.teams(), "HomeTeam", "AwayTeam");
+        matchRepository.save(match);
+
+        // when // then
+        assertTrue(matchRepository.findByTeams("HomeTeam", "AwayTeam").isPresent());
+        assertTrue(matchRepository.findByTeams("hometeam", "awayteam").isPresent());
+        assertTrue(matchRepository.findByTeams("AwayTeam", "HomeTeam").isPresent());
+        assertTrue(matchRepository.findByTeams("awayteam", "hometeam").isPresent());
+        assertFalse(matchRepository.findByTeams("XXX", "YYY").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should return all saved matches")
+    void shouldReturnAllMatches() {
+        // given
+        matchRepository.save(new Match(matchRepository.teams(), "Team1", "Team2"));
+        matchRepository.save(new Match(matchRepository.teams(), "Team3", "Team4"));
+
+        // when
+        List<Match> allMatches = matchRepository.findAll();
+
+        // then
+        assertEquals(2, allMatches.size());
+        assertTrue(allMatches.contains(new Match(matchRepository.teams(), "Team1", "Team2")));
+        assertTrue(allMatches.contains(new Match(matchRepository.teams(), "Team3", "Team4")));
+    }
+
+    @Test
+    @DisplayName("Should return an immutable list from findAll")
+    void shouldReturnImmutableList() {
+        // given
+        matchRepository.save(new Match(matchRepository.teams(), "Team1", "Team2"));
+
+        // when
+        List<Match> allMatches = matchRepository.findAll();
+
+        // then
+        assertThrows(UnsupportedOperationException.class,
+                () -> allMatches.add(new Match(matchRepository.teams(), "Team3", "Team4")));
+    }
+
+    @Test
+    @DisplayName("Should return all saved matches in the order they were started")
+    void shouldReturnMatchesInStartOrder() {
+        // given
+        List<Match> started = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            started.add(matchRepository.save(new Match(matchRepository.teams(), "Home" + i, "Away" + i)));
+        }
+
+        // when
+        List<Match> allMatches = matchRepository.findAll();
+
+        // then
+        assertEquals(started, allMatches);
+    }
+
+    @Test
+    @DisplayName("Should delete a match identified by reverse order and different case")
+    void shouldRemoveMatchCaseAndOrderInsensitive() {
+        // given
+        matchRepository.save(new Match(matchRepository.teams(), "HomeTeam", "AwayTeam"));
+
+        // when
+        boolean deleted = matchRepository.delete("awayteam", " HOMETEAM ");
+
+        // then
+        assertTrue(deleted);
+        assertTrue(matchRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the originally saved instance when saving a match for the same teams")
+    void shouldKeepOriginalInstanceOnUpdate() {
+        // given
+        Match original = new Match(matchRepository.teams(), "TeamA", "TeamB");
+        matchRepository.save(original);
+        Match reversed = new Match(matchRepository.teams(), "TeamB", "TeamA");
+        reversed.updateScore(3, 0);
+
+        // when
+        Match savedMatch = matchRepository.save(reversed);
+
+        // then
+        assertSame(original, savedMatch);
+        assertEquals(3, original.getHomeScore());
+        assertEquals(0, original.getAwayScore());
+        assertEquals(1, matchRepository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should assign an id to a saved match and find it by that id")
+    void shouldFindMatchById() {
+        // given
+        Match match = matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        Match other = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamD"));
+
+        // when // then
+        assertNotEquals(Match.UNASSIGNED_ID, match.getId());
+        assertNotEquals(match.getId(), other.getId());
+        assertSame(match, matchRepository.getById(match.getId()));
+        assertSame(other, matchRepository.findById(other.getId()).orElseThrow());
+        assertFalse(matchRepository.findById(12345L).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not resolve the id of a deleted match to a match reusing its slot")
+    void shouldNotReuseIdsOfDeletedMatches() {
+        // given
+        Match finished = matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        long finishedId = finished.getId();
+        matchRepository.delete("TeamA", "TeamB");
+
+        // when
+        Match started = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamD"));
+
+        // then
+        assertNotEquals(finishedId, started.getId());
+        assertNull(matchRepository.getById(finishedId));
+        assertFalse(matchRepository.delete(finishedId));
+        assertSame(started, matchRepository.getById(started.getId()));
+    }
+
+    @Test
+    @DisplayName("Should restore a deleted match under its id unless its slot was reused meanwhile")
+    void shouldRestoreDeletedMatchUnderItsId() {
+        // given
+        Match finished = matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        long finishedId = finished.getId();
+        matchRepository.delete(finishedId);
+
+        // when
+        boolean restored = matchRepository.restore(finished);
+        matchRepository.delete(finishedId);
+        Match started = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamD"));
+        matchRepository.restore(finished);
+
+        // then
+        assertTrue(restored);
+        assertFalse(matchRepository.restore(finished));
+        assertNotEquals(finishedId, finished.getId());
+        assertSame(finished, matchRepository.getById(finished.getId()));
+        assertSame(started, matchRepository.getById(started.getId()));
+        assertEquals(2, matchRepository.findByTeam("TeamA").size() + matchRepository.findByTeam("TeamC").size());
+    }
+
+    @Test
+    @DisplayName("Should delete a match by id")
+    void shouldRemoveMatchById() {
+        // given
+        Match match = matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+
+        // when
+        boolean deleted = matchRepository.delete(match.getId());
+
+        // then
+        assertTrue(deleted);
+        assertFalse(matchRepository.findByTeams("TeamA", "TeamB").isPresent());
+        assertNull(matchRepository.getById(match.getId()));
+        assertTrue(matchRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find every live match of a team regardless of name spelling")
+    void shouldFindMatchesByTeam() {
+        // given
+        Match home = matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        Match away = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamA"));
+        matchRepository.save(new Match(matchRepository.teams(), "TeamD", "TeamE"));
+
+        // when
+        List<Match> matches = matchRepository.findByTeam(" teama ");
+
+        // then
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(home));
+        assertTrue(matches.contains(away));
+        assertTrue(matchRepository.findByTeam("Unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the team index in sync when matches are deleted")
+    void shouldUnindexDeletedMatches() {
+        // given
+        matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        Match remaining = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamA"));
+        Match byId = matchRepository.save(new Match(matchRepository.teams(), "TeamD", "TeamE"));
+
+        // when
+        matchRepository.delete("TeamA", "TeamB");
+        matchRepository.delete(byId.getId());
+
+        // then
+        assertEquals(List.of(remaining), matchRepository.findByTeam("TeamA"));
+        assertTrue(matchRepository.findByTeam("TeamB").isEmpty());
+        assertTrue(matchRepository.findByTeam("TeamD").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find the match of a pair among all live matches of both teams")
+    void shouldFindMatchOfPairAmongMatchesOfBothTeams() {
+        // given
+        matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamA"));
+        Match match = matchRepository.save(new Match(matchRepository.teams(), "TeamD", "TeamA"));
+        matchRepository.save(new Match(matchRepository.teams(), "TeamD", "TeamE"));
+
+        // when
+        Match found = matchRepository.getByTeams("teama", "TEAMD");
+
+        // then
+        assertSame(match, found);
+        assertNull(matchRepository.getByTeams("TeamB", "TeamC"));
+        assertNull(matchRepository.getByTeams("TeamA", "Unknown"));
+    }
+}
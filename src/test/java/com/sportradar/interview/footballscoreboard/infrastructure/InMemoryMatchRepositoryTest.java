@@ -11,6 +11,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -131,4 +132,19 @@ public class InMemoryMatchRepositoryTest {
         // then
         assertThrows(UnsupportedOperationException.class, () -> allMatches.add(new Match("Team3", "Team4")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should assign an id to a saved match and find it by that id")
+    void shouldFindMatchById() {
+        // given
+        Match match = matchRepository.save(new Match("TeamA", "TeamB"));
+
+        // when
+        boolean deleted = matchRepository.delete(match.getId());
+
+        // then
+        assertNotEquals(Match.UNASSIGNED_ID, match.getId());
+        assertTrue(deleted);
+        assertFalse(matchRepository.findById(match.getId()).isPresent());
+    }
+}
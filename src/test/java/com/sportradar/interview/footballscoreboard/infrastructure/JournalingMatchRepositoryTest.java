@@ -0,0 +1,208 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.IncrementalSummaryEngine;
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalingMatchRepositoryTest {
+
+    private Path directory;
+    private Path journalFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        journalFile = directory.resolve("matches.journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    @DisplayName("Should restore live matches with their scores, start times and start sequences after reopening")
+    void shouldRestoreMatchesAfterReopening() {
+        // given
+        Instant startTime = Instant.parse("2024-06-14T19:00:00.123456789Z");
+        Match started;
+        try (JournalingMatchRepository repository = open(1024)) {
+            started = new Match(repository.teams(), "Brazil", "Argentina", 0, 0, startTime);
+            repository.saveIfAbsent(started);
+            repository.saveIfAbsent(new Match(repository.teams(), "Spain", "Italy"));
+            Match match = repository.getByTeams("Brazil", "Argentina");
+            match.updateScore(2, 1);
+            repository.save(match);
+            repository.delete("Spain", "Italy");
+        }
+
+        // when
+        try (JournalingMatchRepository repository = open(1024)) {
+
+            // then
+            assertEquals(4, repository.getReplayedRecords());
+            List<Match> matches = repository.findAll();
+            assertEquals(1, matches.size());
+            assertEquals("Brazil 2 - Argentina 1", matches.get(0).toString());
+            assertEquals(startTime, matches.get(0).getStartTime());
+            assertEquals(started.getStartSequence(), matches.get(0).getStartSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Should compact the journal into one record per live match")
+    void shouldCompactJournal() {
+        // given
+        try (JournalingMatchRepository repository = open(4096)) {
+            repository.saveIfAbsent(new Match(repository.teams(), "Brazil", "Argentina"));
+            Match match = repository.getByTeams("Brazil", "Argentina");
+            for (int goals = 1; goals <= 50; goals++) {
+                match.updateScore(goals, 0);
+                repository.save(match);
+            }
+            int sizeBeforeCompaction = repository.getJournalSize();
+
+            // when
+            repository.compact();
+
+            // then
+            assertTrue(repository.getJournalSize() < sizeBeforeCompaction);
+        }
+        try (JournalingMatchRepository repository = open(4096)) {
+            assertEquals(1, repository.getReplayedRecords());
+            assertEquals(50, repository.getByTeams("Brazil", "Argentina").getHomeScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should compact automatically when the journal is full")
+    void shouldCompactWhenFull() {
+        // given
+        try (JournalingMatchRepository repository = open(256)) {
+            repository.saveIfAbsent(new Match(repository.teams(), "Brazil", "Argentina"));
+            repository.saveIfAbsent(new Match(repository.teams(), "Spain", "Italy"));
+            Match match = repository.getByTeams("Brazil", "Argentina");
+
+            // when
+            for (int goals = 1; goals <= 1000; goals++) {
+                match.updateScore(goals, 0);
+                repository.save(match);
+            }
+
+            // then
+            assertTrue(repository.getJournalSize() <= 256);
+        }
+        try (JournalingMatchRepository repository = open(256)) {
+            assertEquals(2, repository.findAll().size());
+            assertEquals(1000, repository.getByTeams("Brazil", "Argentina").getHomeScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a torn record at the end of the journal")
+    void shouldIgnoreTornRecord() throws IOException {
+        // given
+        int sizeAfterFirstMatch;
+        try (JournalingMatchRepository repository = open(1024)) {
+            repository.saveIfAbsent(new Match(repository.teams(), "Brazil", "Argentina"));
+            sizeAfterFirstMatch = repository.getJournalSize();
+            repository.saveIfAbsent(new Match(repository.teams(), "Spain", "Italy"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            file.seek(sizeAfterFirstMatch + 12);
+            file.write(0x7F);
+        }
+
+        // when
+        try (JournalingMatchRepository repository = open(1024)) {
+
+            // then
+            assertEquals(1, repository.getReplayedRecords());
+            assertEquals(1, repository.findAll().size());
+            assertEquals(sizeAfterFirstMatch, repository.getJournalSize());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail to open on an intact record that can not be applied and keep the records after it")
+    void shouldFailOnUnapplicableRecord() throws IOException {
+        // given
+        int sizeAfterFirstMatch;
+        try (JournalingMatchRepository repository = open(1024)) {
+            repository.saveIfAbsent(new Match(repository.teams(), "Brazil", "Argentina"));
+            sizeAfterFirstMatch = repository.getJournalSize();
+            repository.saveIfAbsent(new Match(repository.teams(), "Spain", "Italy"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            byte[] payload = new byte[file.readInt()];
+            file.seek(8);
+            file.readFully(payload);
+            payload[0] = 0x7F;
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            file.seek(4);
+            file.writeInt((int) crc.getValue());
+            file.write(payload);
+        }
+
+        // when // then
+        assertThrows(IllegalStateException.class, () -> open(1024));
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "r")) {
+            file.seek(sizeAfterFirstMatch);
+            assertNotEquals(0, file.readInt());
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild the scoreboard summary order after a restart")
+    void shouldRebuildScoreBoardAfterRestart() throws InterruptedException {
+        // given
+        try (JournalingMatchRepository repository = open(1024)) {
+            ScoreBoard scoreBoard = new InMemoryScoreBoard(repository, new IncrementalSummaryEngine());
+            scoreBoard.startGame("Mexico", "Canada");
+            Thread.sleep(5);
+            scoreBoard.startGame("Spain", "Brazil");
+            scoreBoard.updateScore("Mexico", "Canada", 0, 5);
+            scoreBoard.updateScore("Spain", "Brazil", 10, 2);
+        }
+
+        // when
+        try (JournalingMatchRepository repository = open(1024)) {
+            ScoreBoard scoreBoard = new InMemoryScoreBoard(repository, new IncrementalSummaryEngine());
+
+            // then
+            List<Match> summary = scoreBoard.getSummary();
+            assertEquals("Spain 10 - Brazil 2", summary.get(0).toString());
+            assertEquals("Mexico 0 - Canada 5", summary.get(1).toString());
+        }
+    }
+
+    private JournalingMatchRepository open(int capacity) {
+        return new JournalingMatchRepository(new HashIndexedMatchRepository(), journalFile, capacity,
+                JournalingMatchRepository.Durability.GROUP_COMMIT);
+    }
+}
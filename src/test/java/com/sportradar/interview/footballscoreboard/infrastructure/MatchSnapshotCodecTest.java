@@ -0,0 +1,141 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import com.sportradar.interview.footballscoreboard.domain.TeamDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatchSnapshotCodecTest {
+
+    private final TeamDictionary teams = new TeamDictionary();
+
+    @Test
+    @DisplayName("Should preserve the summary order exactly after a round trip")
+    void shouldPreserveSummaryOrderAfterRoundTrip() {
+        // given
+        MatchRepository source = new HashIndexedMatchRepository();
+        Instant kickOff = Instant.parse("2024-06-14T19:00:00Z");
+        for (int i = 0; i < 1_000; i++) {
+            // many equal totals and equal start times so every tiebreak is exercised
+            source.save(new Match(source.teams(), "Snapshot Home " + i, "Snapshot Away " + i, i % 4, i % 3,
+                    kickOff.plusNanos(i % 7)));
+        }
+        List<Match> expectedSummary = new InMemoryScoreBoard(source).getSummary();
+
+        // when
+        ByteBuffer snapshot = MatchSnapshotCodec.encode(source.findAll());
+        MatchRepository target = new HashIndexedMatchRepository();
+        int restored = MatchSnapshotCodec.restore(snapshot, target);
+
+        // then
+        assertEquals(1_000, restored);
+        assertEquals(0, snapshot.remaining());
+        List<Match> actualSummary = new InMemoryScoreBoard(target).getSummary();
+        assertEquals(expectedSummary.size(), actualSummary.size());
+        for (int i = 0; i < expectedSummary.size(); i++) {
+            assertEquals(expectedSummary.get(i).toString(), actualSummary.get(i).toString());
+            assertEquals(expectedSummary.get(i).getStartTime(), actualSummary.get(i).getStartTime());
+            assertEquals(expectedSummary.get(i).getStartSequence(), actualSummary.get(i).getStartSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode into a caller supplied direct buffer of the exact size")
+    void shouldEncodeIntoDirectBuffer() {
+        // given
+        ScoreBoard scoreBoard = new InMemoryScoreBoard(new HashIndexedMatchRepository());
+        scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+        scoreBoard.updateScore("Spain", "Brazil", 10, 2);
+        List<Match> matches = scoreBoard.getCurrentMatches();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MatchSnapshotCodec.encodedSize(matches));
+
+        // when
+        MatchSnapshotCodec.encode(matches, buffer);
+        List<Match> decoded = MatchSnapshotCodec.decode(buffer.flip(), new TeamDictionary());
+
+        // then
+        assertEquals(matches.size(), decoded.size());
+        for (int i = 0; i < matches.size(); i++) {
+            assertEquals(matches.get(i).toString(), decoded.get(i).toString());
+            assertEquals(matches.get(i).getStartTime(), decoded.get(i).getStartTime());
+        }
+    }
+
+    @Test
+    @DisplayName("Should round trip 100k matches")
+    void shouldRoundTripManyMatches() {
+        // given
+        List<Match> matches = new ArrayList<>(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            matches.add(new Match(teams, "Bulk Home " + i, "Bulk Away " + i, i % 5, i % 3,
+                    Instant.ofEpochSecond(1_700_000_000L, i)));
+        }
+
+        // when
+        List<Match> decoded = MatchSnapshotCodec.decode(MatchSnapshotCodec.encode(matches), new TeamDictionary());
+
+        // then
+        assertEquals(100_000, decoded.size());
+        assertEquals(matches.get(99_999).toString(), decoded.get(99_999).toString());
+        assertEquals(matches.get(99_999).getStartTime(), decoded.get(99_999).getStartTime());
+    }
+
+    @Test
+    @DisplayName("Should keep the spelling each match was started with")
+    void shouldKeepSpellingPerMatch() {
+        // given
+        List<Match> matches = List.of(new Match(teams, "Brazil", "Argentina"), new Match(teams, " BRAZIL", "Spain"));
+
+        // when
+        List<Match> decoded = MatchSnapshotCodec.decode(MatchSnapshotCodec.encode(matches), new TeamDictionary());
+
+        // then
+        assertEquals("Brazil", decoded.get(0).getHomeTeam());
+        assertEquals("BRAZIL", decoded.get(1).getHomeTeam());
+        assertEquals(decoded.get(0).getHomeTeamId(), decoded.get(1).getHomeTeamId());
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot of an unsupported version")
+    void shouldRejectUnsupportedVersion() {
+        // given
+        ByteBuffer snapshot = MatchSnapshotCodec.encode(List.of(new Match(teams, "Mexico", "Canada")));
+        snapshot.putShort(Integer.BYTES, (short) (MatchSnapshotCodec.FORMAT_VERSION - 1));
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> MatchSnapshotCodec.decode(snapshot, teams));
+    }
+
+    @Test
+    @DisplayName("Should reject a buffer that is not a snapshot")
+    void shouldRejectForeignBuffer() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(16).putInt(42).flip();
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> MatchSnapshotCodec.decode(buffer, teams));
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated snapshot")
+    void shouldRejectTruncatedSnapshot() {
+        // given
+        ByteBuffer snapshot = MatchSnapshotCodec.encode(List.of(new Match(teams, "Mexico", "Canada")));
+        snapshot.limit(snapshot.limit() - 1);
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> MatchSnapshotCodec.decode(snapshot, teams));
+    }
+}
@@ -0,0 +1,161 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import com.sportradar.interview.footballscoreboard.domain.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapMatchRepositoryTest {
+
+    private MatchRepository matchRepository;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = new OffHeapMatchRepository(4, 0);
+    }
+
+    @Test
+    @DisplayName("Should store a match and return an equal view of it")
+    void shouldSaveNewMatch() {
+        // given
+        Instant startTime = Instant.parse("2024-06-14T19:00:00.123456789Z");
+        Match match = new Match(matchRepository.teams(), "TeamA", "TeamB", 1, 2, startTime);
+
+        // when
+        boolean saved = matchRepository.saveIfAbsent(match);
+
+        // then
+        Match view = matchRepository.getByTeams("teamb", " TEAMA ");
+        assertTrue(saved);
+        assertEquals(match, view);
+        assertEquals("TeamA", view.getHomeTeam());
+        assertEquals("TeamB", view.getAwayTeam());
+        assertEquals(1, view.getHomeScore());
+        assertEquals(2, view.getAwayScore());
+        assertEquals(startTime, view.getStartTime());
+        assertEquals(match.getStartSequence(), view.getStartSequence());
+        assertEquals(match.getId(), view.getId());
+        assertFalse(matchRepository.saveIfAbsent(new Match(matchRepository.teams(), "TeamB", "TeamA")));
+    }
+
+    @Test
+    @DisplayName("Should write the score of a saved view back to its record")
+    void shouldUpdateScoreOnSave() {
+        // given
+        matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        Match view = matchRepository.getByTeams("TeamA", "TeamB");
+        view.updateScore(3, 1);
+
+        // when
+        Match savedMatch = matchRepository.save(view);
+
+        // then
+        assertEquals(view.getId(), savedMatch.getId());
+        assertEquals(3, matchRepository.getById(view.getId()).getHomeScore());
+        assertEquals(1, matchRepository.getById(view.getId()).getAwayScore());
+        assertEquals(1, matchRepository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should not resolve the id of a deleted match to a match reusing its record")
+    void shouldNotReuseIdsOfDeletedMatches() {
+        // given
+        Match finished = matchRepository.save(new Match(matchRepository.teams(), "TeamA", "TeamB"));
+        matchRepository.delete("TeamA", "TeamB");
+
+        // when
+        Match started = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamD"));
+
+        // then
+        assertNotEquals(finished.getId(), started.getId());
+        assertNull(matchRepository.getById(finished.getId()));
+        assertFalse(matchRepository.delete(finished.getId()));
+        assertTrue(matchRepository.delete(started.getId()));
+        assertTrue(matchRepository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should restore a deleted match under its id unless its record was reused meanwhile")
+    void shouldRestoreDeletedMatchUnderItsId() {
+        // given
+        Match finished = matchRepository.save(
+                new Match(matchRepository.teams(), "TeamA", "TeamB", 2, 1, Instant.now()));
+        long finishedId = finished.getId();
+        matchRepository.delete(finishedId);
+
+        // when
+        boolean restored = matchRepository.restore(finished);
+        Match restoredView = matchRepository.getById(finishedId);
+        matchRepository.delete(finishedId);
+        Match started = matchRepository.save(new Match(matchRepository.teams(), "TeamC", "TeamD"));
+        matchRepository.restore(finished);
+
+        // then
+        assertTrue(restored);
+        assertEquals(3, restoredView.getTotalScore());
+        assertFalse(matchRepository.restore(finished));
+        assertNotEquals(finishedId, finished.getId());
+        assertEquals(finished, matchRepository.getById(finished.getId()));
+        assertEquals(started, matchRepository.getById(started.getId()));
+        assertEquals(2, matchRepository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should keep every match reachable while the table grows and records are deleted")
+    void shouldKeepIndexConsistentUnderChurn() {
+        // given
+        int count = 2_000;
+        for (int i = 0; i < count; i++) {
+            matchRepository.save(new Match(matchRepository.teams(), "Churn Home " + i, "Churn Away " + i));
+        }
+
+        // when
+        for (int i = 0; i < count; i += 3) {
+            assertTrue(matchRepository.delete("Churn Home " + i, "Churn Away " + i));
+        }
+
+        // then
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 3 != 0, matchRepository.findByTeams("Churn Away " + i, "Churn Home " + i).isPresent());
+        }
+        assertEquals(count - (count + 2) / 3, matchRepository.findAll().size());
+        assertEquals(List.of(), matchRepository.findByTeam("Churn Home 0"));
+        assertEquals(1, matchRepository.findByTeam("churn home 1").size());
+        assertTrue(((OffHeapMatchRepository) matchRepository).getOffHeapBytes() >= (long) count * OffHeapMatchRepository.RECORD_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should back a scoreboard although every lookup returns a new view")
+    void shouldBackScoreBoard() {
+        // given
+        ScoreBoard scoreBoard = new InMemoryScoreBoard(matchRepository);
+        Match mexico = scoreBoard.startGame("Mexico", "Canada");
+        scoreBoard.startGame("Spain", "Brazil");
+
+        // when
+        scoreBoard.updateScore(mexico.getId(), 0, 5);
+        scoreBoard.updateScore("Spain", "Brazil", 10, 2);
+
+        // then
+        List<Match> summary = scoreBoard.getSummary();
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals(5, summary.get(1).getAwayScore());
+        scoreBoard.finishGame(mexico.getId());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(mexico.getId(), 1, 5));
+        assertEquals(1, scoreBoard.getCurrentMatches().size());
+    }
+}
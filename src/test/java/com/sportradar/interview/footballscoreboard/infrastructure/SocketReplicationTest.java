@@ -0,0 +1,105 @@
+package com.sportradar.interview.footballscoreboard.infrastructure;
+
+import com.sportradar.interview.footballscoreboard.application.FollowerScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ReplicatingScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ReplicationSource;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+import com.sportradar.interview.footballscoreboard.domain.Match;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SocketReplicationTest {
+
+    @Test
+    @DisplayName("Should replicate snapshots and records over a local socket")
+    void shouldReplicateOverSocket() {
+        // given
+        ReplicatingScoreBoard leader = new ReplicatingScoreBoard(new InMemoryScoreBoard(new HashIndexedMatchRepository()));
+        leader.startGame("Mexico", "Canada");
+        leader.startGame("Spain", "Brazil");
+        try (SocketReplicationServer server = new SocketReplicationServer(leader, 0);
+             SocketReplicationSource source = new SocketReplicationSource("localhost", server.getPort())) {
+            FollowerScoreBoard follower = new FollowerScoreBoard(source);
+            follower.catchUp();
+
+            // when
+            leader.updateScore("Mexico", "Canada", 0, 5);
+            leader.applyBatch(List.of(
+                    ScoreBoardCommand.updateScore("Spain", "Brazil", 10, 2),
+                    ScoreBoardCommand.startGame("Germany", "France"),
+                    ScoreBoardCommand.finishGame("Mexico", "Canada")));
+            leader.startGame("Uruguay", "Italy");
+            follower.catchUp();
+
+            // then
+            List<Match> summary = follower.getSummary();
+            assertEquals(render(leader.getSummary()), render(summary));
+            assertEquals(10, summary.get(0).getHomeScore());
+            assertEquals("Uruguay", summary.get(1).getHomeTeam());
+            assertEquals(leader.getSummary().get(1).getStartSequence(), summary.get(1).getStartSequence());
+            assertEquals(leader.getSummary().get(1).getStartTime(), summary.get(1).getStartTime());
+            assertEquals(5, follower.getStatus().recordsApplied());
+            assertEquals(1, follower.getStatus().snapshotsLoaded());
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume from the follower's offset after the server restarted")
+    void shouldResumeAfterReconnect() {
+        // given
+        ReplicatingScoreBoard leader = new ReplicatingScoreBoard(new InMemoryScoreBoard(new HashIndexedMatchRepository()));
+        leader.startGame("Mexico", "Canada");
+        SocketReplicationServer server = new SocketReplicationServer(leader, 0);
+        int port = server.getPort();
+        try (SocketReplicationSource source = new SocketReplicationSource("localhost", port)) {
+            FollowerScoreBoard follower = new FollowerScoreBoard(source);
+            follower.catchUp();
+            server.close();
+            leader.updateScore("Mexico", "Canada", 1, 1);
+
+            // when
+            assertThrows(UncheckedIOException.class, () -> follower.poll(0));
+            try (SocketReplicationServer restarted = new SocketReplicationServer(leader, port)) {
+                follower.catchUp();
+                assertEquals(port, restarted.getPort());
+            }
+
+            // then
+            assertEquals(1, follower.getStatus().failedFetches());
+            assertEquals(1, follower.getStatus().recordsApplied());
+            assertEquals(1, follower.getStatus().snapshotsLoaded());
+            assertEquals(render(leader.getSummary()), render(follower.getSummary()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail a fetch when the leader stops answering without closing the connection")
+    void shouldTimeOutSilentLeader() throws Exception {
+        // given
+        try (ServerSocket silentLeader = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+             SocketReplicationSource source = new SocketReplicationSource("localhost", silentLeader.getLocalPort(), 200)) {
+            long start = System.nanoTime();
+
+            // when
+            assertThrows(UncheckedIOException.class, () -> source.fetch(ReplicationSource.NO_OFFSET, 1, 100));
+
+            // then
+            assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        }
+    }
+
+    // followers intern team names into dictionaries of their own, so matches are compared by what they show
+    private static List<String> render(List<Match> matches) {
+        return matches.stream().map(Match::toString).toList();
+    }
+}
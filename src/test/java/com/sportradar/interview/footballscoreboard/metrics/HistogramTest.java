@@ -0,0 +1,66 @@
+package com.sportradar.interview.footballscoreboard.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HistogramTest {
+
+    @Test
+    @DisplayName("Should count small values exactly")
+    void shouldCountSmallValuesExactly() {
+        // given
+        Histogram histogram = new Histogram();
+
+        // when
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        // then
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(50.5, snapshot.mean(), 1e-9);
+        assertEquals(50, snapshot.p50());
+        assertEquals(90, snapshot.p90());
+        assertEquals(99, snapshot.p99());
+        assertEquals(100, snapshot.max());
+    }
+
+    @Test
+    @DisplayName("Should report large values within the bucket precision")
+    void shouldKeepRelativePrecisionForLargeValues() {
+        // given
+        Histogram histogram = new Histogram();
+        long[] values = {1_000, 123_456, 9_876_543_210L, Long.MAX_VALUE};
+
+        // when
+        for (long value : values) {
+            histogram.record(value);
+        }
+
+        // then
+        for (long value : values) {
+            long reported = Histogram.highestValueAt(Histogram.indexOf(value));
+            assertTrue(reported >= value);
+            assertTrue(reported - value <= value / 64);
+        }
+        assertEquals(Long.MAX_VALUE, histogram.snapshot().max());
+    }
+
+    @Test
+    @DisplayName("Should forget recorded values on reset")
+    void shouldResetValues() {
+        // given
+        Histogram histogram = new Histogram();
+        histogram.record(42);
+
+        // when
+        histogram.reset();
+
+        // then
+        assertEquals(Histogram.Snapshot.EMPTY, histogram.snapshot());
+    }
+}
@@ -0,0 +1,104 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.application.InMemoryScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.IncrementalSummaryEngine;
+import com.sportradar.interview.footballscoreboard.application.PartitionedScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoard;
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+import com.sportradar.interview.footballscoreboard.application.SnapshotScoreBoard;
+import com.sportradar.interview.footballscoreboard.infrastructure.HashIndexedMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.InMemoryMatchRepository;
+import com.sportradar.interview.footballscoreboard.infrastructure.OffHeapMatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplayDriverTest {
+
+    // the first two waves are in play and the third has just kicked off
+    private static final List<TrafficEvent> MID_PLAY = TrafficGenerator.generate(LoadProfile.matchDay(1_000, 2024)).stream()
+            .filter(event -> event.atNanos() < TimeUnit.MINUTES.toNanos(200))
+            .toList();
+
+    @Test
+    @DisplayName("Should report the same final state for every scoreboard implementation")
+    void shouldAgreeAcrossImplementations() {
+        // given
+        ReplayDriver driver = new ReplayDriver();
+        ReplayReport expected = driver.replay(MID_PLAY, new InMemoryScoreBoard(new InMemoryMatchRepository()));
+
+        // when
+        List<ReplayReport> reports = List.of(
+                driver.replay(MID_PLAY, new InMemoryScoreBoard(new HashIndexedMatchRepository())),
+                driver.replay(MID_PLAY, new InMemoryScoreBoard(new OffHeapMatchRepository())),
+                driver.replay(MID_PLAY, new SnapshotScoreBoard(new InMemoryScoreBoard(new HashIndexedMatchRepository(), new IncrementalSummaryEngine()))),
+                new ReplayDriver(4, ReplayDriver.UNPACED).replay(MID_PLAY, new PartitionedScoreBoard(4, HashIndexedMatchRepository::new)));
+
+        // then
+        assertEquals(0, expected.failures());
+        assertTrue(expected.liveMatches() > 0);
+        assertEquals(MID_PLAY.size(), expected.latency().count());
+        for (ReplayReport report : reports) {
+            assertEquals(expected.events(), report.events());
+            assertEquals(expected.failures(), report.failures());
+            assertEquals(expected.outcomeChecksum(), report.outcomeChecksum());
+            assertEquals(expected.liveMatches(), report.liveMatches());
+            assertEquals(expected.stateChecksum(), report.stateChecksum());
+            assertEquals(expected.summaryChecksum(), report.summaryChecksum());
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose a scoreboard that loses an update through different checksums")
+    void shouldDetectDivergingState() {
+        // given
+        ReplayDriver driver = new ReplayDriver();
+        ReplayReport expected = driver.replay(MID_PLAY, new InMemoryScoreBoard(new HashIndexedMatchRepository()));
+        int lastUpdate = 0;
+        for (int i = 0; i < MID_PLAY.size(); i++) {
+            if (MID_PLAY.get(i).command() instanceof ScoreBoardCommand.UpdateScore) {
+                lastUpdate = i;
+            }
+        }
+        List<TrafficEvent> lossy = new ArrayList<>(MID_PLAY);
+        lossy.remove(lastUpdate);
+
+        // when
+        ReplayReport report = driver.replay(lossy, new InMemoryScoreBoard(new HashIndexedMatchRepository()));
+
+        // then
+        assertEquals(expected.liveMatches(), report.liveMatches());
+        assertNotEquals(expected.stateChecksum(), report.stateChecksum());
+        assertNotEquals(expected.outcomeChecksum(), report.outcomeChecksum());
+    }
+
+    @Test
+    @DisplayName("Should count rejected events as failures and keep replaying")
+    void shouldCountFailures() {
+        // given
+        List<TrafficEvent> events = List.of(
+                new TrafficEvent(0, ScoreBoardCommand.startGame("Replay Home", "Replay Away")),
+                new TrafficEvent(1, ScoreBoardCommand.startGame("Replay Home", "Replay Away")),
+                new TrafficEvent(2, ScoreBoardCommand.updateScore("Replay Home", "Replay Away", 1, 0)),
+                new TrafficEvent(3, ScoreBoardCommand.finishGame("Replay Home", "Unknown Away")));
+
+        // when
+        ReplayReport report = new ReplayDriver(1, 1_000.0).replay(events, new InMemoryScoreBoard(new HashIndexedMatchRepository()));
+
+        // then
+        assertEquals(4, report.events());
+        assertEquals(2, report.failures());
+        assertEquals(1, report.liveMatches());
+        assertTrue(report.eventsPerSecond() > 0);
+        assertThrows(IllegalArgumentException.class, () -> new ReplayDriver(0, ReplayDriver.UNPACED));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayDriver(1, 0.0));
+    }
+}
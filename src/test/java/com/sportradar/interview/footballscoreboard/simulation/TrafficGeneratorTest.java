@@ -0,0 +1,119 @@
+package com.sportradar.interview.footballscoreboard.simulation;
+
+import com.sportradar.interview.footballscoreboard.application.ScoreBoardCommand;
+import com.sportradar.interview.footballscoreboard.domain.TeamPair;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrafficGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate the same stream for the same seed and another one for a different seed")
+    void shouldBeDeterministic() {
+        // given
+        LoadProfile profile = LoadProfile.matchDay(500, 42);
+
+        // when
+        List<TrafficEvent> first = TrafficGenerator.generate(profile);
+        List<TrafficEvent> second = TrafficGenerator.generate(profile);
+        List<TrafficEvent> reseeded = TrafficGenerator.generate(LoadProfile.matchDay(500, 43));
+
+        // then
+        assertEquals(first, second);
+        assertNotEquals(first, reseeded);
+    }
+
+    @Test
+    @DisplayName("Should start every match once, then update its score and finish it, in time order")
+    void shouldGenerateValidMatchLifecycles() {
+        // given
+        LoadProfile profile = new LoadProfile(300, 3, TimeUnit.MINUTES.toNanos(60), 3.0, 0.5, 0.2, 7);
+
+        // when
+        List<TrafficEvent> events = TrafficGenerator.generate(profile);
+
+        // then
+        Map<TeamPair, int[]> live = new HashMap<>();
+        Set<TeamPair> finished = new HashSet<>();
+        long previous = 0;
+        for (TrafficEvent event : events) {
+            assertTrue(event.atNanos() >= previous);
+            previous = event.atNanos();
+            TeamPair key = event.command().key();
+            switch (event.command()) {
+                case ScoreBoardCommand.StartGame start -> assertTrue(live.put(key, new int[2]) == null && !finished.contains(key));
+                case ScoreBoardCommand.UpdateScore update -> {
+                    int[] score = live.get(key);
+                    assertEquals(1, Math.abs(update.homeScore() - score[0]) + Math.abs(update.awayScore() - score[1]));
+                    score[0] = update.homeScore();
+                    score[1] = update.awayScore();
+                }
+                case ScoreBoardCommand.FinishGame finish -> assertTrue(live.remove(key) != null && finished.add(key));
+            }
+        }
+        assertTrue(live.isEmpty());
+        assertEquals(300, finished.size());
+    }
+
+    @Test
+    @DisplayName("Should start the matches of a wave in a burst")
+    void shouldStartWavesInBursts() {
+        // given
+        LoadProfile profile = LoadProfile.matchDay(400, 1);
+
+        // when
+        List<TrafficEvent> starts = TrafficGenerator.generate(profile).stream()
+                .filter(event -> event.command() instanceof ScoreBoardCommand.StartGame)
+                .toList();
+
+        // then
+        assertEquals(400, starts.size());
+        for (TrafficEvent start : starts) {
+            long sinceWaveKickoff = start.atNanos() % profile.waveIntervalNanos();
+            assertTrue(sinceWaveKickoff < TimeUnit.SECONDS.toNanos(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should read back a recorded stream unchanged")
+    void shouldRoundTripRecording() throws IOException {
+        // given
+        List<TrafficEvent> events = TrafficGenerator.generate(LoadProfile.matchDay(50, 3));
+        Path file = Files.createTempFile("match-day", ".tsv");
+
+        try {
+            // when
+            TrafficRecording.write(events, file);
+            List<TrafficEvent> read = TrafficRecording.read(file);
+
+            // then
+            assertEquals(events, read);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject malformed recorded events")
+    void shouldRejectMalformedEvents() {
+        assertThrows(IllegalArgumentException.class, () -> TrafficRecording.parse("10\tKICKOFF\tA\tB", 1));
+        assertThrows(IllegalArgumentException.class, () -> TrafficRecording.parse("10\tUPDATE\tA\tB\t1", 1));
+        assertThrows(IllegalArgumentException.class, () -> TrafficRecording.parse("x\tSTART\tA\tB", 1));
+        assertThrows(IllegalArgumentException.class, () -> new LoadProfile(10, 0, 0, 2.0, 0.1, 0.1, 1));
+    }
+}